@@ -2,12 +2,22 @@ package com.skypro.simplebanking;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SimpleBankingApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(SimpleBankingApplication.class, args);
+        SpringApplication application = new SpringApplication(SimpleBankingApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(4096));
+        ConfigurableApplicationContext context = application.run(args);
+        // Training runs for the AppCDS archive only need the classes loaded during startup.
+        if (context.getEnvironment().getProperty("app.startup.exit-after-refresh", Boolean.class, false)) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 
 }
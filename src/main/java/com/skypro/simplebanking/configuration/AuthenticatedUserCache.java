@@ -0,0 +1,75 @@
+package com.skypro.simplebanking.configuration;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of users loaded for HTTP Basic, so that repeated requests from the same client
+ * do not look the user up in the database on the servlet thread each time. The password is still
+ * checked against the cached hash on every request.
+ */
+@Component
+public class AuthenticatedUserCache implements UserCache {
+  private final long ttlMillis;
+  private final int maximumSize;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  public AuthenticatedUserCache(
+      @Value("${app.security.user-cache-ttl:30s}") Duration ttl,
+      @Value("${app.security.user-cache-size:10000}") int maximumSize) {
+    this.ttlMillis = ttl.toMillis();
+    this.maximumSize = maximumSize;
+  }
+
+  @Override
+  public UserDetails getUserFromCache(String username) {
+    return getUserFromCache(username, System.currentTimeMillis());
+  }
+
+  @Override
+  public void putUserInCache(UserDetails user) {
+    putUserInCache(user, System.currentTimeMillis());
+  }
+
+  @Override
+  public void removeUserFromCache(String username) {
+    entries.remove(username);
+  }
+
+  UserDetails getUserFromCache(String username, long nowMillis) {
+    Entry entry = entries.get(username);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAtMillis <= nowMillis) {
+      entries.remove(username, entry);
+      return null;
+    }
+    return entry.user;
+  }
+
+  void putUserInCache(UserDetails user, long nowMillis) {
+    if (entries.size() >= maximumSize) {
+      entries.values().removeIf(entry -> entry.expiresAtMillis <= nowMillis);
+      if (entries.size() >= maximumSize) {
+        return;
+      }
+    }
+    entries.put(user.getUsername(), new Entry(user, nowMillis + ttlMillis));
+  }
+
+  private static final class Entry {
+    private final UserDetails user;
+    private final long expiresAtMillis;
+
+    private Entry(UserDetails user, long expiresAtMillis) {
+      this.user = user;
+      this.expiresAtMillis = expiresAtMillis;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.skypro.simplebanking.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Splits the JDBC connection pool between the background pools that can each hold a connection per
+ * thread: the async read executor, the standing-order workers and the thread claiming their batch.
+ * At least {@code app.connection-budget.reserved} connections stay free for writes on servlet
+ * threads and the short scheduled jobs.
+ */
+@Component
+public class ConnectionBudget {
+  private static final int CLAIM_CONNECTIONS = 1;
+
+  private final int connectionPoolSize;
+  private final int readThreads;
+  private final int standingOrderWorkers;
+
+  public ConnectionBudget(
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+      @Value("${app.connection-budget.reserved:2}") int reserved,
+      @Value("${app.read-executor.threads:0}") int readThreads,
+      @Value("${app.standing-orders.workers:4}") int standingOrderWorkers) {
+    int background = connectionPoolSize - Math.max(1, reserved) - CLAIM_CONNECTIONS;
+    if (background < 2) {
+      throw new IllegalStateException(
+          "spring.datasource.hikari.maximum-pool-size="
+              + connectionPoolSize
+              + " leaves no connections for the read executor and standing-order workers");
+    }
+    this.connectionPoolSize = connectionPoolSize;
+    // Reads keep their share; workers get what is left, but never less than one.
+    this.readThreads =
+        Math.min(readThreads > 0 ? readThreads : connectionPoolSize / 2, background - 1);
+    this.standingOrderWorkers =
+        Math.max(1, Math.min(standingOrderWorkers, background - this.readThreads));
+  }
+
+  public int getConnectionPoolSize() {
+    return connectionPoolSize;
+  }
+
+  public int getReadThreads() {
+    return readThreads;
+  }
+
+  public int getStandingOrderWorkers() {
+    return standingOrderWorkers;
+  }
+}
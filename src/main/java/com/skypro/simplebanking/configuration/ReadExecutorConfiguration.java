@@ -0,0 +1,36 @@
+package com.skypro.simplebanking.configuration;
+
+import com.skypro.simplebanking.instrumentation.SqlStatementCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/** Pool for the async read endpoints, sized by {@link ConnectionBudget}. */
+@Configuration
+public class ReadExecutorConfiguration {
+  @Bean
+  public ThreadPoolTaskExecutor readExecutor(
+      ConnectionBudget connectionBudget,
+      @Value("${app.read-executor.queue-capacity:10000}") int queueCapacity) {
+    int poolSize = connectionBudget.getReadThreads();
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("read-");
+    executor.setTaskDecorator(
+        task -> {
+          SqlStatementCounter counter = SqlStatementCounter.current();
+          return () -> {
+            SqlStatementCounter.set(counter);
+            try {
+              task.run();
+            } finally {
+              SqlStatementCounter.reset();
+            }
+          };
+        });
+    return executor;
+  }
+}
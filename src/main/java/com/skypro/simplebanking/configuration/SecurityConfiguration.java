@@ -3,9 +3,11 @@ package com.skypro.simplebanking.configuration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -19,6 +21,19 @@ public class SecurityConfiguration {
         return new BCryptPasswordEncoder();
     }
 
+    /** HTTP Basic re-authenticates every request; the cache keeps that off the database. */
+    @Bean
+    public DaoAuthenticationProvider authenticationProvider(
+            UserDetailsService userDetailsService,
+            PasswordEncoder passwordEncoder,
+            AuthenticatedUserCache authenticatedUserCache) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserCache(authenticatedUserCache);
+        return provider;
+    }
+
     @Bean
     public SecurityFilterChain httpSecurity(
             HttpSecurity httpSecurity, AdminSecurityFilter adminSecurityFilter) throws Exception {
@@ -47,6 +62,10 @@ public class SecurityConfiguration {
                 .hasRole("USER")
                 .antMatchers("/transfer/**")
                 .hasRole("USER")
+                .antMatchers("/actuator/health")
+                .permitAll()
+                .antMatchers("/actuator/**")
+                .hasRole("ADMIN")
                 .anyRequest()
                 .authenticated()
                 .and()
@@ -0,0 +1,50 @@
+package com.skypro.simplebanking.configuration;
+
+import com.skypro.simplebanking.sharding.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfiguration {
+  @Bean
+  @Primary
+  public DataSource dataSource(ShardingProperties properties) {
+    // The services do not select a shard yet, so every shard but 0 would silently stay empty.
+    if (properties.getShards().size() > 1) {
+      throw new IllegalStateException(
+          "app.sharding.shards supports one shard until requests are routed by user");
+    }
+    return createRoutingDataSource(properties);
+  }
+
+  public static ShardRoutingDataSource createRoutingDataSource(ShardingProperties properties) {
+    if (properties.getShards().isEmpty()) {
+      throw new IllegalStateException("app.sharding.enabled requires app.sharding.shards");
+    }
+    List<DataSource> shards =
+        properties.getShards().stream()
+            .map(ShardingConfiguration::createShard)
+            .collect(Collectors.toList());
+    // Flyway auto-configuration only sees the routing data source, i.e. shard 0.
+    shards.forEach(shard -> Flyway.configure().dataSource(shard).load().migrate());
+    return new ShardRoutingDataSource(shards);
+  }
+
+  private static DataSource createShard(ShardingProperties.Shard shard) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl(shard.getUrl());
+    dataSource.setUsername(shard.getUsername());
+    dataSource.setPassword(shard.getPassword());
+    return dataSource;
+  }
+}
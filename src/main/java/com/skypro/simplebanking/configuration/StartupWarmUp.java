@@ -0,0 +1,57 @@
+package com.skypro.simplebanking.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.BalanceChangeRequest;
+import com.skypro.simplebanking.dto.CreateUserRequest;
+import com.skypro.simplebanking.dto.ListAccountDTO;
+import com.skypro.simplebanking.dto.ListUserDTO;
+import com.skypro.simplebanking.dto.TransferRequest;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import java.util.List;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RestController;
+
+/** Warms the hot request paths before the application reports itself ready. */
+@Component
+@Profile("prod")
+public class StartupWarmUp implements ApplicationRunner {
+  private final ApplicationContext applicationContext;
+  private final ObjectMapper objectMapper;
+  private final PasswordEncoder passwordEncoder;
+
+  public StartupWarmUp(
+      ApplicationContext applicationContext,
+      ObjectMapper objectMapper,
+      PasswordEncoder passwordEncoder) {
+    this.applicationContext = applicationContext;
+    this.objectMapper = objectMapper;
+    this.passwordEncoder = passwordEncoder;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    applicationContext.getBeansWithAnnotation(RestController.class);
+
+    AccountDTO account = new AccountDTO(0, 0, AccountCurrency.USD);
+    objectMapper.writeValueAsBytes(new UserDTO(0, "warm-up", List.of(account)));
+    objectMapper.writeValueAsBytes(
+        List.of(
+            new ListUserDTO(
+                0, "warm-up", List.of(new ListAccountDTO(0L, AccountCurrency.USD)))));
+    objectMapper.readValue(
+        "{\"username\":\"warm-up\",\"password\":\"warm-up\"}", CreateUserRequest.class);
+    objectMapper.readValue("{\"amount\":1}", BalanceChangeRequest.class);
+    objectMapper.readValue(
+        "{\"fromAccountId\":1,\"toUserId\":1,\"toAccountId\":1,\"amount\":1}",
+        TransferRequest.class);
+
+    passwordEncoder.matches("warm-up", passwordEncoder.encode("warm-up"));
+  }
+}
@@ -0,0 +1,77 @@
+package com.skypro.simplebanking.configuration;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/** Velocity limits per currency, e.g. {@code app.velocity.account.USD[0].max-amount=100000}. */
+@Component
+@ConfigurationProperties(prefix = "app.velocity")
+public class VelocityProperties {
+  private Map<AccountCurrency, List<Limit>> account = new EnumMap<>(AccountCurrency.class);
+  private Map<AccountCurrency, List<Limit>> user = new EnumMap<>(AccountCurrency.class);
+
+  public Map<AccountCurrency, List<Limit>> getAccount() {
+    return account;
+  }
+
+  public void setAccount(Map<AccountCurrency, List<Limit>> account) {
+    this.account = account;
+  }
+
+  public Map<AccountCurrency, List<Limit>> getUser() {
+    return user;
+  }
+
+  public void setUser(Map<AccountCurrency, List<Limit>> user) {
+    this.user = user;
+  }
+
+  public boolean isEmpty() {
+    return account.values().stream().allMatch(List::isEmpty)
+        && user.values().stream().allMatch(List::isEmpty);
+  }
+
+  public List<Limit> getAccountLimits(AccountCurrency currency) {
+    return account.getOrDefault(currency, new ArrayList<>());
+  }
+
+  public List<Limit> getUserLimits(AccountCurrency currency) {
+    return user.getOrDefault(currency, new ArrayList<>());
+  }
+
+  public static class Limit {
+    private Duration window = Duration.ofMinutes(1);
+    private long maxAmount = Long.MAX_VALUE;
+    private long maxCount = Long.MAX_VALUE;
+
+    public Duration getWindow() {
+      return window;
+    }
+
+    public void setWindow(Duration window) {
+      this.window = window;
+    }
+
+    public long getMaxAmount() {
+      return maxAmount;
+    }
+
+    public void setMaxAmount(long maxAmount) {
+      this.maxAmount = maxAmount;
+    }
+
+    public long getMaxCount() {
+      return maxCount;
+    }
+
+    public void setMaxCount(long maxCount) {
+      this.maxCount = maxCount;
+    }
+  }
+}
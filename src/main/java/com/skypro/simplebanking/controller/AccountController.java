@@ -3,23 +3,43 @@ package com.skypro.simplebanking.controller;
 import com.skypro.simplebanking.dto.AccountDTO;
 import com.skypro.simplebanking.dto.BalanceChangeRequest;
 import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.event.AccountEventHub;
 import com.skypro.simplebanking.service.AccountService;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/account")
 public class AccountController {
   private final AccountService accountService;
+  private final AccountEventHub accountEventHub;
+  private final AsyncTaskExecutor readExecutor;
 
-  public AccountController(AccountService accountService) {
+  public AccountController(AccountService accountService,
+                           AccountEventHub accountEventHub,
+                           @Qualifier("readExecutor") AsyncTaskExecutor readExecutor) {
     this.accountService = accountService;
+    this.accountEventHub = accountEventHub;
+    this.readExecutor = readExecutor;
   }
 
   @GetMapping("/{id}")
-  public AccountDTO getUserAccount(Authentication authentication, @PathVariable("id") Long accountId) {
+  public CompletableFuture<AccountDTO> getUserAccount(Authentication authentication, @PathVariable("id") Long accountId) {
     BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
-    return accountService.getAccount(bankingUserDetails.getId(), accountId);
+    return CompletableFuture.supplyAsync(
+        () -> accountService.getAccount(bankingUserDetails.getId(), accountId), readExecutor);
+  }
+
+  @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamAccountEvents(Authentication authentication, @PathVariable("id") Long accountId) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return accountEventHub.subscribe(
+        accountId, () -> accountService.getAccount(bankingUserDetails.getId(), accountId));
   }
 
   @PostMapping("/deposit/{id}")
@@ -1,6 +1,8 @@
 package com.skypro.simplebanking.controller;
 
 import com.skypro.simplebanking.exception.*;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -12,11 +14,31 @@ public class BankingExceptionHandlers {
     return ResponseEntity.notFound().build();
   }
 
+  @ExceptionHandler(value = {HoldNotFoundException.class})
+  public ResponseEntity<?> handleHoldNotFound() {
+    return ResponseEntity.notFound().build();
+  }
+
+  @ExceptionHandler(value = {StandingOrderNotFoundException.class})
+  public ResponseEntity<?> handleStandingOrderNotFound() {
+    return ResponseEntity.notFound().build();
+  }
+
   @ExceptionHandler(value = {InsufficientFundsException.class})
   public ResponseEntity<?> handleInsufficientFunds(InsufficientFundsException exception) {
     return ResponseEntity.badRequest().body(exception.getMessage());
   }
 
+  @ExceptionHandler(value = {HoldExpiredException.class})
+  public ResponseEntity<?> handleHoldExpired() {
+    return ResponseEntity.badRequest().body("Hold has expired");
+  }
+
+  @ExceptionHandler(value = {InvalidScheduleException.class})
+  public ResponseEntity<?> handleInvalidSchedule() {
+    return ResponseEntity.badRequest().body("First run should not be in the past");
+  }
+
   @ExceptionHandler(value = {UserAlreadyExistsException.class})
   public ResponseEntity<?> handleUserAlreadyExists() {
     return ResponseEntity.badRequest().build();
@@ -31,4 +53,14 @@ public class BankingExceptionHandlers {
   public ResponseEntity<?> handleWrongCurrency() {
     return ResponseEntity.badRequest().body("Account currencies should be same");
   }
+
+  @ExceptionHandler(value = {VelocityLimitExceededException.class})
+  public ResponseEntity<?> handleVelocityLimitExceeded(VelocityLimitExceededException exception) {
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(exception.getMessage());
+  }
+
+  @ExceptionHandler(value = {TaskRejectedException.class})
+  public ResponseEntity<?> handleReadExecutorSaturated() {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+  }
 }
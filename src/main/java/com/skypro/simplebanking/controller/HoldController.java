@@ -0,0 +1,39 @@
+package com.skypro.simplebanking.controller;
+
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.dto.HoldDTO;
+import com.skypro.simplebanking.dto.HoldRequest;
+import com.skypro.simplebanking.service.HoldService;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/account")
+public class HoldController {
+  private final HoldService holdService;
+
+  public HoldController(HoldService holdService) {
+    this.holdService = holdService;
+  }
+
+  @PostMapping("/{id}/holds")
+  public HoldDTO createHold(Authentication authentication,
+                            @PathVariable("id") Long accountId,
+                            @RequestBody HoldRequest holdRequest) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return holdService.createHold(bankingUserDetails.getId(), accountId,
+        holdRequest.getAmount(), holdRequest.getTtlSeconds());
+  }
+
+  @PostMapping("/holds/{holdId}/capture")
+  public HoldDTO captureHold(Authentication authentication, @PathVariable("holdId") Long holdId) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return holdService.captureHold(bankingUserDetails.getId(), holdId);
+  }
+
+  @PostMapping("/holds/{holdId}/release")
+  public HoldDTO releaseHold(Authentication authentication, @PathVariable("holdId") Long holdId) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return holdService.releaseHold(bankingUserDetails.getId(), holdId);
+  }
+}
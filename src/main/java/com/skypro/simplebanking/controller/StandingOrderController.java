@@ -0,0 +1,39 @@
+package com.skypro.simplebanking.controller;
+
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.dto.StandingOrderDTO;
+import com.skypro.simplebanking.dto.StandingOrderRequest;
+import com.skypro.simplebanking.service.StandingOrderService;
+import java.util.List;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/transfer/standing-orders")
+public class StandingOrderController {
+  private final StandingOrderService standingOrderService;
+
+  public StandingOrderController(StandingOrderService standingOrderService) {
+    this.standingOrderService = standingOrderService;
+  }
+
+  @PostMapping
+  public StandingOrderDTO createStandingOrder(
+      Authentication authentication, @RequestBody StandingOrderRequest standingOrderRequest) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return standingOrderService.createStandingOrder(
+        bankingUserDetails.getId(), standingOrderRequest);
+  }
+
+  @GetMapping
+  public List<StandingOrderDTO> getMyStandingOrders(Authentication authentication) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return standingOrderService.listStandingOrders(bankingUserDetails.getId());
+  }
+
+  @DeleteMapping("/{id}")
+  public void cancelStandingOrder(Authentication authentication, @PathVariable("id") Long id) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    standingOrderService.cancelStandingOrder(bankingUserDetails.getId(), id);
+  }
+}
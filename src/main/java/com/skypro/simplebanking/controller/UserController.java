@@ -7,18 +7,24 @@ import com.skypro.simplebanking.dto.UserDTO;
 import javax.validation.Valid;
 
 import com.skypro.simplebanking.service.UserService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/user")
 public class UserController {
   private final UserService userService;
+  private final AsyncTaskExecutor readExecutor;
 
-  public UserController(UserService userService) {
+  public UserController(UserService userService,
+                        @Qualifier("readExecutor") AsyncTaskExecutor readExecutor) {
     this.userService = userService;
+    this.readExecutor = readExecutor;
   }
 
   @PostMapping
@@ -30,8 +36,9 @@ public class UserController {
     return userService.listUsers();
   }
   @GetMapping("/me")
-  public UserDTO getMyProfile(Authentication authentication){
+  public CompletableFuture<UserDTO> getMyProfile(Authentication authentication){
     BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
-    return userService.getUser(bankingUserDetails.getId());
+    return CompletableFuture.supplyAsync(
+        () -> userService.getUser(bankingUserDetails.getId()), readExecutor);
   }
 }
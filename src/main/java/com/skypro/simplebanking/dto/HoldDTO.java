@@ -0,0 +1,46 @@
+package com.skypro.simplebanking.dto;
+
+import com.skypro.simplebanking.entity.Hold;
+import com.skypro.simplebanking.entity.HoldStatus;
+import java.time.Instant;
+
+public class HoldDTO {
+  private final long id;
+  private final long accountId;
+  private final long amount;
+  private final HoldStatus status;
+  private final Instant expiresAt;
+
+  public HoldDTO(long id, long accountId, long amount, HoldStatus status, Instant expiresAt) {
+    this.id = id;
+    this.accountId = accountId;
+    this.amount = amount;
+    this.status = status;
+    this.expiresAt = expiresAt;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public long getAccountId() {
+    return accountId;
+  }
+
+  public long getAmount() {
+    return amount;
+  }
+
+  public HoldStatus getStatus() {
+    return status;
+  }
+
+  public Instant getExpiresAt() {
+    return expiresAt;
+  }
+
+  public static HoldDTO from(Hold hold) {
+    return new HoldDTO(
+        hold.getId(), hold.getAccountId(), hold.getAmount(), hold.getStatus(), hold.getExpiresAt());
+  }
+}
@@ -0,0 +1,22 @@
+package com.skypro.simplebanking.dto;
+
+public class HoldRequest {
+  private long amount;
+  private Long ttlSeconds;
+
+  public long getAmount() {
+    return amount;
+  }
+
+  public void setAmount(long amount) {
+    this.amount = amount;
+  }
+
+  public Long getTtlSeconds() {
+    return ttlSeconds;
+  }
+
+  public void setTtlSeconds(Long ttlSeconds) {
+    this.ttlSeconds = ttlSeconds;
+  }
+}
@@ -0,0 +1,111 @@
+package com.skypro.simplebanking.dto;
+
+import com.skypro.simplebanking.entity.StandingOrder;
+import com.skypro.simplebanking.entity.StandingOrderStatus;
+import java.time.Instant;
+
+public class StandingOrderDTO {
+  private final long id;
+  private final long fromAccountId;
+  private final long toUserId;
+  private final long toAccountId;
+  private final long amount;
+  private final Integer intervalDays;
+  private final Instant scheduledFor;
+  private final Instant nextRunAt;
+  private final StandingOrderStatus status;
+  private final int attempts;
+  private final Instant lastRunAt;
+  private final String lastError;
+
+  public StandingOrderDTO(
+      long id,
+      long fromAccountId,
+      long toUserId,
+      long toAccountId,
+      long amount,
+      Integer intervalDays,
+      Instant scheduledFor,
+      Instant nextRunAt,
+      StandingOrderStatus status,
+      int attempts,
+      Instant lastRunAt,
+      String lastError) {
+    this.id = id;
+    this.fromAccountId = fromAccountId;
+    this.toUserId = toUserId;
+    this.toAccountId = toAccountId;
+    this.amount = amount;
+    this.intervalDays = intervalDays;
+    this.scheduledFor = scheduledFor;
+    this.nextRunAt = nextRunAt;
+    this.status = status;
+    this.attempts = attempts;
+    this.lastRunAt = lastRunAt;
+    this.lastError = lastError;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public long getFromAccountId() {
+    return fromAccountId;
+  }
+
+  public long getToUserId() {
+    return toUserId;
+  }
+
+  public long getToAccountId() {
+    return toAccountId;
+  }
+
+  public long getAmount() {
+    return amount;
+  }
+
+  public Integer getIntervalDays() {
+    return intervalDays;
+  }
+
+  public Instant getScheduledFor() {
+    return scheduledFor;
+  }
+
+  public Instant getNextRunAt() {
+    return nextRunAt;
+  }
+
+  public StandingOrderStatus getStatus() {
+    return status;
+  }
+
+  public int getAttempts() {
+    return attempts;
+  }
+
+  public Instant getLastRunAt() {
+    return lastRunAt;
+  }
+
+  public String getLastError() {
+    return lastError;
+  }
+
+  public static StandingOrderDTO from(StandingOrder order) {
+    return new StandingOrderDTO(
+        order.getId(),
+        order.getFromAccountId(),
+        order.getToUserId(),
+        order.getToAccountId(),
+        order.getAmount(),
+        order.getIntervalDays(),
+        order.getScheduledFor(),
+        order.getNextRunAt(),
+        order.getStatus(),
+        order.getAttempts(),
+        order.getLastRunAt(),
+        order.getLastError());
+  }
+}
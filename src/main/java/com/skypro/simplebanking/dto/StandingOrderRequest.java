@@ -0,0 +1,24 @@
+package com.skypro.simplebanking.dto;
+
+import java.time.Instant;
+
+public class StandingOrderRequest extends TransferRequest {
+  private Instant firstRunAt;
+  private Integer intervalDays;
+
+  public Instant getFirstRunAt() {
+    return firstRunAt;
+  }
+
+  public void setFirstRunAt(Instant firstRunAt) {
+    this.firstRunAt = firstRunAt;
+  }
+
+  public Integer getIntervalDays() {
+    return intervalDays;
+  }
+
+  public void setIntervalDays(Integer intervalDays) {
+    this.intervalDays = intervalDays;
+  }
+}
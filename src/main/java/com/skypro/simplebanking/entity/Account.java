@@ -1,18 +1,27 @@
 package com.skypro.simplebanking.entity;
 
 import javax.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
 
 @Entity
 @Table(name = "accounts")
 public class Account {
   @Id
-  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account-sequence")
-  @SequenceGenerator(name = "account-sequence", sequenceName = "account_sequence")
+  @GeneratedValue(generator = "account-id")
+  @GenericGenerator(
+      name = "account-id",
+      strategy = "com.skypro.simplebanking.sharding.GlobalIdGenerator")
   private Long id;
 
   private AccountCurrency accountCurrency;
+  /** Changed only through the conditional bulk updates in AccountRepository. */
+  @Column(nullable = false, updatable = false)
   private Long amount;
 
+  /** Funds reserved by active holds; changed only through conditional bulk updates. */
+  @Column(nullable = false, updatable = false)
+  private Long heldAmount = 0L;
+
   @ManyToOne(optional = false)
   @JoinColumn(nullable = false, updatable = false, name = "user_id")
   private User user;
@@ -41,6 +50,14 @@ public class Account {
     this.amount = amount;
   }
 
+  public Long getHeldAmount() {
+    return heldAmount;
+  }
+
+  public void setHeldAmount(Long heldAmount) {
+    this.heldAmount = heldAmount;
+  }
+
   public User getUser() {
     return user;
   }
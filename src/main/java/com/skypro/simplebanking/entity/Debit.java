@@ -0,0 +1,99 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+
+/**
+ * Outgoing amount kept only as long as the longest velocity window, to restore the limits. A debit
+ * made for a hold is deleted again if the hold is released or expires.
+ */
+@Entity
+@Table(
+    name = "debits",
+    indexes = {
+      @Index(name = "debits_created_at_idx", columnList = "createdAt"),
+      @Index(name = "debits_hold_id_idx", columnList = "holdId")
+    })
+public class Debit {
+  @Id
+  @GeneratedValue(generator = "debit-id")
+  @GenericGenerator(
+      name = "debit-id",
+      strategy = "com.skypro.simplebanking.sharding.GlobalIdGenerator")
+  private Long id;
+
+  @Column(nullable = false, updatable = false)
+  private Long userId;
+
+  @Column(nullable = false, updatable = false)
+  private Long accountId;
+
+  @Column(nullable = false, updatable = false)
+  private AccountCurrency currency;
+
+  @Column(nullable = false, updatable = false)
+  private Long amount;
+
+  @Column(nullable = false, updatable = false)
+  private Instant createdAt;
+
+  @Column(updatable = false)
+  private Long holdId;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public void setUserId(Long userId) {
+    this.userId = userId;
+  }
+
+  public Long getAccountId() {
+    return accountId;
+  }
+
+  public void setAccountId(Long accountId) {
+    this.accountId = accountId;
+  }
+
+  public AccountCurrency getCurrency() {
+    return currency;
+  }
+
+  public void setCurrency(AccountCurrency currency) {
+    this.currency = currency;
+  }
+
+  public Long getAmount() {
+    return amount;
+  }
+
+  public void setAmount(Long amount) {
+    this.amount = amount;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public Long getHoldId() {
+    return holdId;
+  }
+
+  public void setHoldId(Long holdId) {
+    this.holdId = holdId;
+  }
+}
@@ -0,0 +1,82 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+
+@Entity
+@Table(
+    name = "holds",
+    indexes = @Index(name = "holds_status_expires_at_idx", columnList = "status, expiresAt"))
+public class Hold {
+  @Id
+  @GeneratedValue(generator = "hold-id")
+  @GenericGenerator(
+      name = "hold-id",
+      strategy = "com.skypro.simplebanking.sharding.GlobalIdGenerator")
+  private Long id;
+
+  @Column(nullable = false, updatable = false)
+  private Long accountId;
+
+  @Column(nullable = false, updatable = false)
+  private Long userId;
+
+  @Column(nullable = false, updatable = false)
+  private Long amount;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private HoldStatus status;
+
+  @Column(nullable = false, updatable = false)
+  private Instant expiresAt;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Long getAccountId() {
+    return accountId;
+  }
+
+  public void setAccountId(Long accountId) {
+    this.accountId = accountId;
+  }
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public void setUserId(Long userId) {
+    this.userId = userId;
+  }
+
+  public Long getAmount() {
+    return amount;
+  }
+
+  public void setAmount(Long amount) {
+    this.amount = amount;
+  }
+
+  public HoldStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(HoldStatus status) {
+    this.status = status;
+  }
+
+  public Instant getExpiresAt() {
+    return expiresAt;
+  }
+
+  public void setExpiresAt(Instant expiresAt) {
+    this.expiresAt = expiresAt;
+  }
+}
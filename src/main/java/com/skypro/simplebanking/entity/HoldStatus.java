@@ -0,0 +1,8 @@
+package com.skypro.simplebanking.entity;
+
+public enum HoldStatus {
+  ACTIVE,
+  CAPTURED,
+  RELEASED,
+  EXPIRED
+}
@@ -0,0 +1,176 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+
+@Entity
+@Table(
+    name = "standing_orders",
+    indexes = @Index(name = "standing_orders_due_idx", columnList = "status, nextRunAt"))
+public class StandingOrder {
+  @Id
+  @GeneratedValue(generator = "standing-order-id")
+  @GenericGenerator(
+      name = "standing-order-id",
+      strategy = "com.skypro.simplebanking.sharding.GlobalIdGenerator")
+  private Long id;
+
+  @Column(nullable = false, updatable = false)
+  private Long userId;
+
+  @Column(nullable = false, updatable = false)
+  private Long fromAccountId;
+
+  @Column(nullable = false, updatable = false)
+  private Long toUserId;
+
+  @Column(nullable = false, updatable = false)
+  private Long toAccountId;
+
+  @Column(nullable = false, updatable = false)
+  private Long amount;
+
+  /** Days between runs; {@code null} for a one-off future-dated transfer. */
+  private Integer intervalDays;
+
+  /** The occurrence being paid; retries move {@link #nextRunAt} but never this. */
+  @Column(nullable = false)
+  private Instant scheduledFor;
+
+  @Column(nullable = false)
+  private Instant nextRunAt;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private StandingOrderStatus status;
+
+  private int attempts;
+  private Instant lastRunAt;
+  private String lastError;
+
+  /** Claim lease of the node currently executing this order. */
+  private Instant lockedUntil;
+
+  private String leaseToken;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public void setUserId(Long userId) {
+    this.userId = userId;
+  }
+
+  public Long getFromAccountId() {
+    return fromAccountId;
+  }
+
+  public void setFromAccountId(Long fromAccountId) {
+    this.fromAccountId = fromAccountId;
+  }
+
+  public Long getToUserId() {
+    return toUserId;
+  }
+
+  public void setToUserId(Long toUserId) {
+    this.toUserId = toUserId;
+  }
+
+  public Long getToAccountId() {
+    return toAccountId;
+  }
+
+  public void setToAccountId(Long toAccountId) {
+    this.toAccountId = toAccountId;
+  }
+
+  public Long getAmount() {
+    return amount;
+  }
+
+  public void setAmount(Long amount) {
+    this.amount = amount;
+  }
+
+  public Integer getIntervalDays() {
+    return intervalDays;
+  }
+
+  public void setIntervalDays(Integer intervalDays) {
+    this.intervalDays = intervalDays;
+  }
+
+  public Instant getScheduledFor() {
+    return scheduledFor;
+  }
+
+  public void setScheduledFor(Instant scheduledFor) {
+    this.scheduledFor = scheduledFor;
+  }
+
+  public Instant getNextRunAt() {
+    return nextRunAt;
+  }
+
+  public void setNextRunAt(Instant nextRunAt) {
+    this.nextRunAt = nextRunAt;
+  }
+
+  public StandingOrderStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(StandingOrderStatus status) {
+    this.status = status;
+  }
+
+  public int getAttempts() {
+    return attempts;
+  }
+
+  public void setAttempts(int attempts) {
+    this.attempts = attempts;
+  }
+
+  public Instant getLastRunAt() {
+    return lastRunAt;
+  }
+
+  public void setLastRunAt(Instant lastRunAt) {
+    this.lastRunAt = lastRunAt;
+  }
+
+  public String getLastError() {
+    return lastError;
+  }
+
+  public void setLastError(String lastError) {
+    this.lastError = lastError;
+  }
+
+  public Instant getLockedUntil() {
+    return lockedUntil;
+  }
+
+  public void setLockedUntil(Instant lockedUntil) {
+    this.lockedUntil = lockedUntil;
+  }
+
+  public String getLeaseToken() {
+    return leaseToken;
+  }
+
+  public void setLeaseToken(String leaseToken) {
+    this.leaseToken = leaseToken;
+  }
+}
@@ -0,0 +1,8 @@
+package com.skypro.simplebanking.entity;
+
+public enum StandingOrderStatus {
+  ACTIVE,
+  COMPLETED,
+  FAILED,
+  CANCELLED
+}
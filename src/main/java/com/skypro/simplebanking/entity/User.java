@@ -1,16 +1,21 @@
 package com.skypro.simplebanking.entity;
 
 import javax.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Table(
+    name = "users",
+    uniqueConstraints = @UniqueConstraint(name = "users_username_key", columnNames = "username"))
 public class User {
   @Id
-  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user-generator")
-  @SequenceGenerator(name = "user-generator", sequenceName = "user_sequence")
+  @GeneratedValue(generator = "user-id")
+  @GenericGenerator(
+      name = "user-id",
+      strategy = "com.skypro.simplebanking.sharding.GlobalIdGenerator")
   private Long id;
   private String username;
   private String password;
@@ -0,0 +1,15 @@
+package com.skypro.simplebanking.event;
+
+import com.skypro.simplebanking.dto.AccountDTO;
+
+public class AccountBalanceChangedEvent {
+  private final AccountDTO account;
+
+  public AccountBalanceChangedEvent(AccountDTO account) {
+    this.account = account;
+  }
+
+  public AccountDTO getAccount() {
+    return account;
+  }
+}
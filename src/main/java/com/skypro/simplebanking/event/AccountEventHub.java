@@ -0,0 +1,244 @@
+package com.skypro.simplebanking.event;
+
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/** Fans committed balance changes out to SSE subscribers; each keeps only its latest snapshot. */
+@Component
+@Lazy(false)
+public class AccountEventHub {
+  static final String CHANNEL = "account_balance_changes";
+
+  private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private final PostgresNotifications notifications;
+  private final ThreadPoolExecutor dispatcher;
+  private final int dispatchThreads;
+  private final int maxStalledThreads;
+  private final AtomicInteger stalledSends = new AtomicInteger();
+  private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor();
+  private final long timeoutMillis;
+  private final long sendTimeoutMillis;
+
+  public AccountEventHub(
+      PostgresNotifications notifications,
+      @Value("${app.events.dispatch-threads:4}") int dispatchThreads,
+      @Value("${app.events.timeout-millis:1800000}") long timeoutMillis,
+      @Value("${app.events.send-timeout-millis:5000}") long sendTimeoutMillis,
+      @Value("${app.events.max-stalled-threads:16}") int maxStalledThreads) {
+    this.notifications = notifications;
+    this.dispatcher =
+        new ThreadPoolExecutor(
+            dispatchThreads,
+            dispatchThreads + maxStalledThreads,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>());
+    this.dispatchThreads = dispatchThreads;
+    this.maxStalledThreads = maxStalledThreads;
+    this.timeoutMillis = timeoutMillis;
+    this.sendTimeoutMillis = sendTimeoutMillis;
+    notifications.subscribe(CHANNEL, payload -> deliver(parse(payload)));
+  }
+
+  /**
+   * Registers the subscriber before reading the snapshot, so a change committed in between is
+   * delivered as an event instead of being lost.
+   */
+  public SseEmitter subscribe(long accountId, Supplier<AccountDTO> snapshot) {
+    SseEmitter emitter = new SseEmitter(timeoutMillis);
+    Subscriber subscriber = new Subscriber(accountId, emitter);
+    subscribers.computeIfAbsent(accountId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+    emitter.onCompletion(() -> unsubscribe(subscriber));
+    emitter.onTimeout(() -> unsubscribe(subscriber));
+    emitter.onError(error -> unsubscribe(subscriber));
+    AccountDTO account;
+    try {
+      account = snapshot.get();
+    } catch (RuntimeException e) {
+      unsubscribe(subscriber);
+      throw e;
+    }
+    subscriber.offerSnapshot(account);
+    return emitter;
+  }
+
+  public void deliver(AccountDTO account) {
+    Set<Subscriber> accountSubscribers = subscribers.get(account.getId());
+    if (accountSubscribers == null) {
+      return;
+    }
+    accountSubscribers.forEach(subscriber -> subscriber.offer(account));
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void relayToOtherNodes(AccountBalanceChangedEvent event) {
+    AccountDTO account = event.getAccount();
+    notifications.notifyOthers(
+        CHANNEL, account.getId() + ":" + account.getAmount() + ":" + account.getCurrency());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onBalanceChanged(AccountBalanceChangedEvent event) {
+    deliver(event.getAccount());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    dispatcher.shutdownNow();
+    watchdog.shutdownNow();
+  }
+
+  /**
+   * A send that outlives the timeout keeps its thread until Tomcat fails the write. Up to {@code
+   * maxStalledThreads} such threads are replaced so that healthy subscribers keep their share;
+   * beyond that the stalled subscriber is only dropped.
+   */
+  private boolean replaceStalledThread() {
+    synchronized (stalledSends) {
+      if (stalledSends.get() >= maxStalledThreads) {
+        return false;
+      }
+      dispatcher.setCorePoolSize(dispatchThreads + stalledSends.incrementAndGet());
+      return true;
+    }
+  }
+
+  private void releaseStalledThread() {
+    synchronized (stalledSends) {
+      dispatcher.setCorePoolSize(dispatchThreads + stalledSends.decrementAndGet());
+    }
+  }
+
+  private static AccountDTO parse(String payload) {
+    String[] parts = payload.split(":");
+    return new AccountDTO(
+        Long.parseLong(parts[0]), Long.parseLong(parts[1]), AccountCurrency.valueOf(parts[2]));
+  }
+
+  private void unsubscribe(Subscriber subscriber) {
+    subscribers.computeIfPresent(
+        subscriber.accountId,
+        (id, accountSubscribers) -> {
+          accountSubscribers.remove(subscriber);
+          return accountSubscribers.isEmpty() ? null : accountSubscribers;
+        });
+  }
+
+  private class Subscriber {
+    private final long accountId;
+    private final SseEmitter emitter;
+    private final AtomicReference<AccountDTO> pending = new AtomicReference<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean changed = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private Thread sendingThread;
+    private boolean abandoned;
+    private boolean replaced;
+
+    private Subscriber(long accountId, SseEmitter emitter) {
+      this.accountId = accountId;
+      this.emitter = emitter;
+    }
+
+    private void offerSnapshot(AccountDTO account) {
+      // Any event seen since registration is at least as new as the snapshot.
+      if (!changed.get()) {
+        schedule(account);
+      }
+    }
+
+    private void offer(AccountDTO account) {
+      changed.set(true);
+      schedule(account);
+    }
+
+    private void schedule(AccountDTO account) {
+      if (closed.get()) {
+        return;
+      }
+      pending.set(account);
+      if (scheduled.compareAndSet(false, true)) {
+        dispatcher.execute(this::drain);
+      }
+    }
+
+    private void drain() {
+      while (!closed.get()) {
+        AccountDTO account = pending.getAndSet(null);
+        if (account == null) {
+          scheduled.set(false);
+          if (pending.get() == null || !scheduled.compareAndSet(false, true)) {
+            return;
+          }
+          continue;
+        }
+        send(account);
+      }
+    }
+
+    private void send(AccountDTO account) {
+      synchronized (this) {
+        sendingThread = Thread.currentThread();
+      }
+      ScheduledFuture<?> timeout =
+          watchdog.schedule(this::abandon, sendTimeoutMillis, TimeUnit.MILLISECONDS);
+      Exception failure = null;
+      boolean timedOut;
+      boolean threadReplaced;
+      try {
+        emitter.send(SseEmitter.event().name("balance").data(account));
+      } catch (IOException | IllegalStateException e) {
+        failure = e;
+      } finally {
+        timeout.cancel(false);
+        synchronized (this) {
+          sendingThread = null;
+          timedOut = abandoned;
+          threadReplaced = replaced;
+        }
+        Thread.interrupted();
+      }
+      if (timedOut) {
+        if (threadReplaced) {
+          releaseStalledThread();
+        }
+        emitter.completeWithError(new TimeoutException("Subscriber stopped reading events"));
+      } else if (failure != null && closed.compareAndSet(false, true)) {
+        unsubscribe(this);
+        emitter.completeWithError(failure);
+      }
+    }
+
+    private synchronized void abandon() {
+      Thread thread = sendingThread;
+      if (thread != null && closed.compareAndSet(false, true)) {
+        abandoned = true;
+        unsubscribe(this);
+        replaced = replaceStalledThread();
+        thread.interrupt();
+      }
+    }
+  }
+}
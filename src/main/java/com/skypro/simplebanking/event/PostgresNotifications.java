@@ -0,0 +1,185 @@
+package com.skypro.simplebanking.event;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/** Cross-node messages over Postgres LISTEN/NOTIFY; a node never receives its own messages. */
+@Component
+@Lazy(false)
+public class PostgresNotifications implements SmartLifecycle {
+  static final String APPLICATION_NAME = "postgres-notifications";
+
+  private static final Logger log = LoggerFactory.getLogger(PostgresNotifications.class);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final DataSourceProperties dataSourceProperties;
+  private final boolean enabled;
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Map<String, Consumer<String>> listeners = new ConcurrentHashMap<>();
+  private final List<Runnable> connectListeners = new CopyOnWriteArrayList<>();
+  private volatile boolean running;
+  private volatile boolean listening;
+  private Thread listenerThread;
+
+  public PostgresNotifications(
+      JdbcTemplate jdbcTemplate,
+      DataSourceProperties dataSourceProperties,
+      @Value("${app.notifications.enabled:true}") boolean enabled) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.dataSourceProperties = dataSourceProperties;
+    this.enabled = enabled;
+  }
+
+  public void subscribe(String channel, Consumer<String> listener) {
+    listeners.put(channel, listener);
+  }
+
+  /**
+   * Runs {@code listener} each time the listener connection is (re)established, after the
+   * subscribed channels are listened to; messages sent while it was down are lost, so state kept
+   * in sync by notifications must be reloaded here.
+   */
+  public void onConnected(Runnable listener) {
+    connectListeners.add(listener);
+  }
+
+  /** Whether messages from other nodes are being received and the connect listeners have run. */
+  public boolean isListening() {
+    return listening;
+  }
+
+  /** Queues {@code payload} in the current transaction; Postgres delivers it only on commit. */
+  public void notifyOthers(String channel, String payload) {
+    if (!enabled) {
+      return;
+    }
+    jdbcTemplate.queryForObject(
+        "select count(*) from (select pg_notify(?, ?)) n",
+        Long.class,
+        channel,
+        nodeId + ":" + payload);
+  }
+
+  @Override
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    running = true;
+    listenerThread = new Thread(this::listen, "postgres-notifications");
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    listening = false;
+    if (listenerThread != null) {
+      listenerThread.interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void listen() {
+    Properties properties = new Properties();
+    if (dataSourceProperties.determineUsername() != null) {
+      properties.setProperty("user", dataSourceProperties.determineUsername());
+    }
+    if (dataSourceProperties.determinePassword() != null) {
+      properties.setProperty("password", dataSourceProperties.determinePassword());
+    }
+    properties.setProperty("ApplicationName", APPLICATION_NAME);
+    while (running) {
+      try (Connection connection =
+          DriverManager.getConnection(dataSourceProperties.determineUrl(), properties)) {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        Set<String> channels = new HashSet<>();
+        listenTo(connection, channels);
+        connectListeners.forEach(this::runConnectListener);
+        listening = true;
+        while (running) {
+          listenTo(connection, channels);
+          PGNotification[] notifications = pgConnection.getNotifications(1000);
+          if (notifications != null) {
+            for (PGNotification notification : notifications) {
+              dispatch(notification);
+            }
+          }
+        }
+      } catch (SQLException e) {
+        listening = false;
+        if (!running) {
+          return;
+        }
+        log.warn("Postgres notification listener failed, reconnecting", e);
+        try {
+          Thread.sleep(5_000);
+        } catch (InterruptedException interrupted) {
+          return;
+        }
+      }
+    }
+    listening = false;
+  }
+
+  private void listenTo(Connection connection, Set<String> channels) throws SQLException {
+    for (String channel : listeners.keySet()) {
+      if (channels.add(channel)) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + channel);
+        }
+      }
+    }
+  }
+
+  private void runConnectListener(Runnable listener) {
+    try {
+      listener.run();
+    } catch (RuntimeException e) {
+      log.warn("Cannot resynchronize after the notification listener connected", e);
+    }
+  }
+
+  private void dispatch(PGNotification notification) {
+    String message = notification.getParameter();
+    int separator = message.indexOf(':');
+    if (separator < 0 || message.substring(0, separator).equals(nodeId)) {
+      return;
+    }
+    Consumer<String> listener = listeners.get(notification.getName());
+    if (listener == null) {
+      return;
+    }
+    try {
+      listener.accept(message.substring(separator + 1));
+    } catch (RuntimeException e) {
+      log.warn("Cannot handle notification on {}", notification.getName(), e);
+    }
+  }
+}
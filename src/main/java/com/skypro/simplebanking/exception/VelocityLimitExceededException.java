@@ -0,0 +1,7 @@
+package com.skypro.simplebanking.exception;
+
+public class VelocityLimitExceededException extends RuntimeException {
+  public VelocityLimitExceededException(String message) {
+    super(message);
+  }
+}
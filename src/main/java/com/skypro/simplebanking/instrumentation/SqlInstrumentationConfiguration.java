@@ -0,0 +1,33 @@
+package com.skypro.simplebanking.instrumentation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlInstrumentationConfiguration {
+  @Bean
+  public static BeanPostProcessor sqlInstrumentationPostProcessor(
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+          SqlStatementListener listener = new SqlStatementListener(meterRegistry.getObject());
+          return ProxyDataSourceBuilder.create((DataSource) bean)
+              .name(beanName)
+              .listener(listener)
+              .methodListener(listener)
+              .proxyResultSet()
+              .build();
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,63 @@
+package com.skypro.simplebanking.instrumentation;
+
+/**
+ * Per-thread tally of JDBC statements executed through the instrumented datasource and of the rows
+ * they read or wrote.
+ */
+public class SqlStatementCounter {
+  private static final ThreadLocal<SqlStatementCounter> CURRENT =
+      ThreadLocal.withInitial(SqlStatementCounter::new);
+
+  private long statements;
+  private long elapsedMillis;
+  private long rows;
+
+  public long getStatements() {
+    return statements;
+  }
+
+  public long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  public long getRows() {
+    return rows;
+  }
+
+  void record(int statementCount, long elapsed) {
+    statements += statementCount;
+    elapsedMillis += elapsed;
+  }
+
+  void recordRows(long rowCount) {
+    rows += rowCount;
+  }
+
+  public static SqlStatementCounter current() {
+    return CURRENT.get();
+  }
+
+  /** Makes {@code counter} current on this thread, e.g. when a request continues elsewhere. */
+  public static void set(SqlStatementCounter counter) {
+    CURRENT.set(counter);
+  }
+
+  public static void reset() {
+    CURRENT.remove();
+  }
+
+  /** Runs {@code action} on the calling thread and returns the statements it issued. */
+  public static SqlStatementCounter measure(Runnable action) {
+    SqlStatementCounter outer = CURRENT.get();
+    SqlStatementCounter measured = new SqlStatementCounter();
+    CURRENT.set(measured);
+    try {
+      action.run();
+    } finally {
+      outer.record((int) measured.statements, measured.elapsedMillis);
+      outer.recordRows(measured.rows);
+      CURRENT.set(outer);
+    }
+    return measured;
+  }
+}
@@ -0,0 +1,93 @@
+package com.skypro.simplebanking.instrumentation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Counts statements and their time, rows written from the update counts the driver returns, and
+ * rows read as {@link ResultSet#next()} advances; the latter needs the result-set proxy enabled.
+ */
+public class SqlStatementListener implements QueryExecutionListener, MethodExecutionListener {
+  private final Counter statements;
+  private final Timer executionTime;
+  private final Counter rowsRead;
+  private final Counter rowsWritten;
+
+  public SqlStatementListener(MeterRegistry meterRegistry) {
+    this.statements =
+        Counter.builder("banking.sql.statements")
+            .description("JDBC statements executed")
+            .register(meterRegistry);
+    this.executionTime =
+        Timer.builder("banking.sql.execution")
+            .description("Time spent executing JDBC statements")
+            .register(meterRegistry);
+    this.rowsRead =
+        Counter.builder("banking.sql.rows")
+            .description("Rows read from or written by JDBC statements")
+            .tag("operation", "read")
+            .register(meterRegistry);
+    this.rowsWritten =
+        Counter.builder("banking.sql.rows")
+            .description("Rows read from or written by JDBC statements")
+            .tag("operation", "write")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {}
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    int statementCount = queryInfoList.size();
+    SqlStatementCounter counter = SqlStatementCounter.current();
+    counter.record(statementCount, execInfo.getElapsedTime());
+    statements.increment(statementCount);
+    executionTime.record(Duration.ofMillis(execInfo.getElapsedTime()));
+    long written = updateCount(execInfo.getResult());
+    if (written > 0) {
+      counter.recordRows(written);
+      rowsWritten.increment(written);
+    }
+  }
+
+  @Override
+  public void beforeMethod(MethodExecutionContext executionContext) {}
+
+  @Override
+  public void afterMethod(MethodExecutionContext executionContext) {
+    if (executionContext.getTarget() instanceof ResultSet
+        && executionContext.getMethod().getName().equals("next")
+        && Boolean.TRUE.equals(executionContext.getResult())) {
+      SqlStatementCounter.current().recordRows(1);
+      rowsRead.increment();
+    }
+  }
+
+  /** Sums the update counts of executeUpdate and executeBatch; queries report none. */
+  private static long updateCount(Object result) {
+    if (result instanceof Integer || result instanceof Long) {
+      return Math.max(0, ((Number) result).longValue());
+    }
+    long total = 0;
+    if (result instanceof int[]) {
+      for (int count : (int[]) result) {
+        total += Math.max(0, count);
+      }
+    } else if (result instanceof long[]) {
+      for (long count : (long[]) result) {
+        total += Math.max(0, count);
+      }
+    }
+    return total;
+  }
+}
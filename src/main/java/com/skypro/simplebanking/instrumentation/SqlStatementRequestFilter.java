@@ -0,0 +1,105 @@
+package com.skypro.simplebanking.instrumentation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Attributes JDBC work to the HTTP request and, when enabled, reports it in debug headers. The
+ * headers are written just before the response commits, so bodiless responses carry them too.
+ */
+@Component
+public class SqlStatementRequestFilter extends OncePerRequestFilter {
+  private static final String COUNTER_ATTRIBUTE =
+      SqlStatementRequestFilter.class.getName() + ".counter";
+
+  private final boolean debugHeaders;
+  private final DistributionSummary statementsPerRequest;
+  private final DistributionSummary sqlTimePerRequest;
+  private final DistributionSummary rowsPerRequest;
+
+  public SqlStatementRequestFilter(
+      MeterRegistry meterRegistry,
+      @Value("${app.sql-instrumentation.debug-header:false}") boolean debugHeaders) {
+    this.debugHeaders = debugHeaders;
+    this.statementsPerRequest =
+        DistributionSummary.builder("banking.sql.request.statements")
+            .description("JDBC statements executed per HTTP request")
+            .register(meterRegistry);
+    this.sqlTimePerRequest =
+        DistributionSummary.builder("banking.sql.request.time")
+            .description("Time spent in JDBC per HTTP request")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    this.rowsPerRequest =
+        DistributionSummary.builder("banking.sql.request.rows")
+            .description("Rows read or written by JDBC per HTTP request")
+            .baseUnit("rows")
+            .register(meterRegistry);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    SqlStatementCounter counter = (SqlStatementCounter) request.getAttribute(COUNTER_ATTRIBUTE);
+    if (counter == null) {
+      counter = new SqlStatementCounter();
+      request.setAttribute(COUNTER_ATTRIBUTE, counter);
+    }
+    SqlStatementCounter.set(counter);
+    HttpServletResponse filteredResponse =
+        debugHeaders ? new DebugHeaderResponse(response, counter) : response;
+    try {
+      filterChain.doFilter(request, filteredResponse);
+    } finally {
+      // An async request is recorded once, by the dispatch that completes it.
+      if (!request.isAsyncStarted()) {
+        if (debugHeaders && !response.isCommitted()) {
+          writeHeaders(response, counter);
+        }
+        statementsPerRequest.record(counter.getStatements());
+        sqlTimePerRequest.record(counter.getElapsedMillis());
+        rowsPerRequest.record(counter.getRows());
+      }
+      SqlStatementCounter.reset();
+    }
+  }
+
+  private static void writeHeaders(HttpServletResponse response, SqlStatementCounter counter) {
+    response.setHeader("X-Sql-Statements", String.valueOf(counter.getStatements()));
+    response.setHeader("X-Sql-Time-Millis", String.valueOf(counter.getElapsedMillis()));
+    response.setHeader("X-Sql-Rows", String.valueOf(counter.getRows()));
+  }
+
+  /** Writes the headers when a body write, flush, error or redirect is about to commit. */
+  private static final class DebugHeaderResponse extends OnCommittedResponseWrapper {
+    private final SqlStatementCounter counter;
+
+    private DebugHeaderResponse(HttpServletResponse response, SqlStatementCounter counter) {
+      super(response);
+      this.counter = counter;
+    }
+
+    @Override
+    protected void onResponseCommitted() {
+      writeHeaders((HttpServletResponse) getResponse(), counter);
+    }
+  }
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+}
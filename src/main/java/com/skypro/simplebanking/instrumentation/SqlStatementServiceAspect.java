@@ -0,0 +1,38 @@
+package com.skypro.simplebanking.instrumentation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/** Records the JDBC statements issued by each service method, including its commit. */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementServiceAspect {
+  private final MeterRegistry meterRegistry;
+
+  public SqlStatementServiceAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Around("@within(org.springframework.stereotype.Service)")
+  public Object countStatements(ProceedingJoinPoint joinPoint) throws Throwable {
+    SqlStatementCounter counter = SqlStatementCounter.current();
+    long before = counter.getStatements();
+    try {
+      return joinPoint.proceed();
+    } finally {
+      DistributionSummary.builder("banking.sql.method.statements")
+          .description("JDBC statements executed per service method call")
+          .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+          .tag("method", joinPoint.getSignature().getName())
+          .register(meterRegistry)
+          .record(counter.getStatements() - before);
+    }
+  }
+}
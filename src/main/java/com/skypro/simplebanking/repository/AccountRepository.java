@@ -1,11 +1,45 @@
 package com.skypro.simplebanking.repository;
 
 import com.skypro.simplebanking.entity.Account;
+import com.skypro.simplebanking.entity.AccountCurrency;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
   Optional<Account> getAccountByUser_IdAndId(Long userId, Long accountId);
+
+  @Query("select a.accountCurrency from Account a where a.id = :accountId and a.user.id = :userId")
+  Optional<AccountCurrency> findCurrency(long userId, long accountId);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      "update Account a set a.amount = a.amount + :amount "
+          + "where a.id = :accountId and a.user.id = :userId")
+  int deposit(long userId, long accountId, long amount);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      "update Account a set a.amount = a.amount - :amount "
+          + "where a.id = :accountId and a.user.id = :userId and a.amount - a.heldAmount >= :amount")
+  int withdraw(long userId, long accountId, long amount);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      "update Account a set a.heldAmount = a.heldAmount + :amount "
+          + "where a.id = :accountId and a.user.id = :userId and a.amount - a.heldAmount >= :amount")
+  int reserve(long userId, long accountId, long amount);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      "update Account a set a.amount = a.amount - :amount, a.heldAmount = a.heldAmount - :amount "
+          + "where a.id = :accountId")
+  int capture(long accountId, long amount);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update Account a set a.heldAmount = a.heldAmount - :amount where a.id = :accountId")
+  int release(long accountId, long amount);
 }
@@ -0,0 +1,28 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.Debit;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface DebitRepository extends JpaRepository<Debit, Long> {
+  /** Debits after the ({@code createdAt}, {@code id}) position, oldest first, for paging. */
+  @Query(
+      "select d from Debit d"
+          + " where d.createdAt > :createdAt or (d.createdAt = :createdAt and d.id > :id)"
+          + " order by d.createdAt, d.id")
+  List<Debit> findPageAfter(Instant createdAt, long id, Pageable pageable);
+
+  List<Debit> findAllByHoldId(long holdId);
+
+  @Transactional
+  @Modifying
+  @Query("delete from Debit d where d.createdAt < :before")
+  int deleteOlderThan(Instant before);
+}
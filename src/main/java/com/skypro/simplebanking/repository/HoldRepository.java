@@ -0,0 +1,42 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.Hold;
+import com.skypro.simplebanking.entity.HoldStatus;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface HoldRepository extends JpaRepository<Hold, Long> {
+  Optional<Hold> findByIdAndUserId(Long id, Long userId);
+
+  @Query(
+      "select h.id from Hold h where h.status = com.skypro.simplebanking.entity.HoldStatus.ACTIVE "
+          + "and h.expiresAt < :now order by h.expiresAt")
+  List<Long> findExpiredIds(Instant now, Pageable pageable);
+
+  @Modifying
+  @Query(
+      "update Hold h set h.status = :status "
+          + "where h.id = :id and h.status = com.skypro.simplebanking.entity.HoldStatus.ACTIVE")
+  int finish(long id, HoldStatus status);
+
+  @Modifying
+  @Query(
+      "update Hold h set h.status = com.skypro.simplebanking.entity.HoldStatus.CAPTURED "
+          + "where h.id = :id and h.status = com.skypro.simplebanking.entity.HoldStatus.ACTIVE "
+          + "and h.expiresAt > :now")
+  int capture(long id, Instant now);
+
+  @Modifying
+  @Query(
+      "update Hold h set h.status = com.skypro.simplebanking.entity.HoldStatus.EXPIRED "
+          + "where h.id = :id and h.status = com.skypro.simplebanking.entity.HoldStatus.ACTIVE "
+          + "and h.expiresAt <= :now")
+  int expire(long id, Instant now);
+}
@@ -0,0 +1,42 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.StandingOrder;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StandingOrderRepository extends JpaRepository<StandingOrder, Long> {
+  List<StandingOrder> findAllByUserIdOrderByNextRunAt(Long userId);
+
+  /** Leases up to {@code batchSize} due orders; {@code SKIP LOCKED} keeps nodes from waiting. */
+  @Query(
+      value =
+          "update standing_orders set locked_until = :leaseUntil, lease_token = :leaseToken "
+              + "where id in ("
+              + "select id from standing_orders where status = 'ACTIVE' and next_run_at <= :now "
+              + "and (locked_until is null or locked_until < :now) "
+              + "order by next_run_at limit :batchSize for update skip locked) "
+              + "returning *",
+      nativeQuery = true)
+  List<StandingOrder> claimDue(
+      Instant now, Instant leaseUntil, String leaseToken, int batchSize);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select o from StandingOrder o where o.id = :id")
+  Optional<StandingOrder> findByIdForUpdate(long id);
+
+  @Modifying
+  @Query(
+      "update StandingOrder o "
+          + "set o.status = com.skypro.simplebanking.entity.StandingOrderStatus.CANCELLED "
+          + "where o.id = :id and o.userId = :userId "
+          + "and o.status = com.skypro.simplebanking.entity.StandingOrderStatus.ACTIVE")
+  int cancel(long id, long userId);
+}
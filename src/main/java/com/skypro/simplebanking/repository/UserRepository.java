@@ -1,11 +1,21 @@
 package com.skypro.simplebanking.repository;
 
 import com.skypro.simplebanking.entity.User;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
   Optional<User> findByUsername(String username);
+
+  @EntityGraph(attributePaths = "accounts")
+  @Query("select distinct u from User u")
+  List<User> findAllWithAccounts();
+
+  @Query("select u.username from User u")
+  List<String> findAllUsernames();
 }
@@ -4,12 +4,14 @@ import com.skypro.simplebanking.dto.AccountDTO;
 import com.skypro.simplebanking.entity.Account;
 import com.skypro.simplebanking.entity.AccountCurrency;
 import com.skypro.simplebanking.entity.User;
+import com.skypro.simplebanking.event.AccountBalanceChangedEvent;
 import com.skypro.simplebanking.exception.AccountNotFoundException;
 import com.skypro.simplebanking.exception.InsufficientFundsException;
 import com.skypro.simplebanking.exception.InvalidAmountException;
 import com.skypro.simplebanking.exception.WrongCurrencyException;
 import com.skypro.simplebanking.repository.AccountRepository;
 import java.util.ArrayList;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,9 +19,16 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class AccountService {
   private final AccountRepository accountRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final VelocityLimiter velocityLimiter;
 
-  public AccountService(AccountRepository accountRepository) {
+  public AccountService(
+      AccountRepository accountRepository,
+      ApplicationEventPublisher eventPublisher,
+      VelocityLimiter velocityLimiter) {
     this.accountRepository = accountRepository;
+    this.eventPublisher = eventPublisher;
+    this.velocityLimiter = velocityLimiter;
   }
 
   @Transactional(propagation = Propagation.MANDATORY)
@@ -59,12 +68,10 @@ public class AccountService {
     if (amount < 0) {
       throw new InvalidAmountException();
     }
-    Account account =
-        accountRepository
-            .getAccountByUser_IdAndId(userId, accountId)
-            .orElseThrow(AccountNotFoundException::new);
-    account.setAmount(account.getAmount() + amount);
-    return AccountDTO.from(account);
+    if (accountRepository.deposit(userId, accountId, amount) == 0) {
+      throw new AccountNotFoundException();
+    }
+    return publishBalanceChange(userId, accountId);
   }
 
   @Transactional
@@ -72,15 +79,55 @@ public class AccountService {
     if (amount < 0) {
       throw new InvalidAmountException();
     }
-    Account account =
-        accountRepository
-            .getAccountByUser_IdAndId(id, accountId)
-            .orElseThrow(AccountNotFoundException::new);
-    if (account.getAmount() < amount) {
+    recordDebit(id, accountId, amount);
+    if (accountRepository.withdraw(id, accountId, amount) == 0) {
+      Account account =
+          accountRepository
+              .getAccountByUser_IdAndId(id, accountId)
+              .orElseThrow(AccountNotFoundException::new);
       throw new InsufficientFundsException(
           "Cannot withdraw " + amount + " " + account.getAccountCurrency().name());
     }
-    account.setAmount(account.getAmount() - amount);
-    return AccountDTO.from(account);
+    return publishBalanceChange(id, accountId);
+  }
+
+  /** Counts an outgoing amount against the velocity limits; rolled back with the transaction. */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordDebit(long userId, long accountId, long amount) {
+    recordDebit(userId, accountId, amount, null);
+  }
+
+  /** As {@link #recordDebit(long, long, long)}, for the amount reserved by hold {@code holdId}. */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordDebit(long userId, long accountId, long amount, Long holdId) {
+    if (velocityLimiter.isEnabled()) {
+      AccountCurrency currency =
+          accountRepository
+              .findCurrency(userId, accountId)
+              .orElseThrow(AccountNotFoundException::new);
+      velocityLimiter.recordDebit(userId, accountId, currency, amount, holdId);
+    }
+  }
+
+  /** Stops counting the amount of a hold that was released or expired without being captured. */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void cancelHoldDebit(long holdId) {
+    if (velocityLimiter.isEnabled()) {
+      velocityLimiter.cancelHoldDebit(holdId);
+    }
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public AccountDTO publishBalanceChange(long userId, long accountId) {
+    return publishBalanceChange(
+        accountRepository
+            .getAccountByUser_IdAndId(userId, accountId)
+            .orElseThrow(AccountNotFoundException::new));
+  }
+
+  private AccountDTO publishBalanceChange(Account account) {
+    AccountDTO accountDTO = AccountDTO.from(account);
+    eventPublisher.publishEvent(new AccountBalanceChangedEvent(accountDTO));
+    return accountDTO;
   }
 }
@@ -0,0 +1,50 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.repository.HoldRepository;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Lazy(false)
+public class HoldExpirySweeper {
+  private static final Logger log = LoggerFactory.getLogger(HoldExpirySweeper.class);
+
+  private final HoldRepository holdRepository;
+  private final HoldService holdService;
+  private final int batchSize;
+
+  public HoldExpirySweeper(
+      HoldRepository holdRepository,
+      HoldService holdService,
+      @Value("${app.holds.sweep-batch-size:500}") int batchSize) {
+    this.holdRepository = holdRepository;
+    this.holdService = holdService;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${app.holds.sweep-interval-millis:60000}")
+  public void releaseExpiredHolds() {
+    List<Long> expired;
+    int released;
+    do {
+      expired = holdRepository.findExpiredIds(Instant.now(), PageRequest.of(0, batchSize));
+      released = 0;
+      for (Long holdId : expired) {
+        try {
+          holdService.expireHold(holdId);
+          released++;
+        } catch (RuntimeException e) {
+          log.warn("Failed to release expired hold {}", holdId, e);
+        }
+      }
+      // A batch made only of failing holds would be returned again forever.
+    } while (expired.size() == batchSize && released > 0);
+  }
+}
@@ -0,0 +1,111 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.dto.HoldDTO;
+import com.skypro.simplebanking.entity.Account;
+import com.skypro.simplebanking.entity.Hold;
+import com.skypro.simplebanking.entity.HoldStatus;
+import com.skypro.simplebanking.exception.AccountNotFoundException;
+import com.skypro.simplebanking.exception.HoldExpiredException;
+import com.skypro.simplebanking.exception.HoldNotFoundException;
+import com.skypro.simplebanking.exception.InsufficientFundsException;
+import com.skypro.simplebanking.exception.InvalidAmountException;
+import com.skypro.simplebanking.repository.AccountRepository;
+import com.skypro.simplebanking.repository.HoldRepository;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Authorize-then-capture fund holds, each step a single conditional update. */
+@Service
+public class HoldService {
+  private final AccountRepository accountRepository;
+  private final HoldRepository holdRepository;
+  private final AccountService accountService;
+  private final Duration defaultTtl;
+
+  public HoldService(
+      AccountRepository accountRepository,
+      HoldRepository holdRepository,
+      AccountService accountService,
+      @Value("${app.holds.default-ttl-seconds:604800}") long defaultTtlSeconds) {
+    this.accountRepository = accountRepository;
+    this.holdRepository = holdRepository;
+    this.accountService = accountService;
+    this.defaultTtl = Duration.ofSeconds(defaultTtlSeconds);
+  }
+
+  @Transactional
+  public HoldDTO createHold(long userId, long accountId, long amount, Long ttlSeconds) {
+    if (amount <= 0 || (ttlSeconds != null && ttlSeconds <= 0)) {
+      throw new InvalidAmountException();
+    }
+    if (accountRepository.reserve(userId, accountId, amount) == 0) {
+      Account account =
+          accountRepository
+              .getAccountByUser_IdAndId(userId, accountId)
+              .orElseThrow(AccountNotFoundException::new);
+      throw new InsufficientFundsException(
+          "Cannot hold " + amount + " " + account.getAccountCurrency().name());
+    }
+    Hold hold = new Hold();
+    hold.setAccountId(accountId);
+    hold.setUserId(userId);
+    hold.setAmount(amount);
+    hold.setStatus(HoldStatus.ACTIVE);
+    hold.setExpiresAt(
+        Instant.now().plus(ttlSeconds == null ? defaultTtl : Duration.ofSeconds(ttlSeconds)));
+    holdRepository.save(hold);
+    // Authorizing is what commits the funds, so the limits are checked here and not at capture.
+    accountService.recordDebit(userId, accountId, amount, hold.getId());
+    return HoldDTO.from(hold);
+  }
+
+  @Transactional
+  public HoldDTO captureHold(long userId, long holdId) {
+    Hold hold = findHold(userId, holdId);
+    Instant now = Instant.now();
+    if (holdRepository.capture(holdId, now) == 0) {
+      if (hold.getStatus() == HoldStatus.ACTIVE && !hold.getExpiresAt().isAfter(now)) {
+        throw new HoldExpiredException();
+      }
+      throw new HoldNotFoundException();
+    }
+    hold.setStatus(HoldStatus.CAPTURED);
+    accountRepository.capture(hold.getAccountId(), hold.getAmount());
+    accountService.publishBalanceChange(userId, hold.getAccountId());
+    return HoldDTO.from(hold);
+  }
+
+  @Transactional
+  public HoldDTO releaseHold(long userId, long holdId) {
+    Hold hold = findHold(userId, holdId);
+    if (holdRepository.finish(holdId, HoldStatus.RELEASED) == 0) {
+      throw new HoldNotFoundException();
+    }
+    hold.setStatus(HoldStatus.RELEASED);
+    accountRepository.release(hold.getAccountId(), hold.getAmount());
+    accountService.cancelHoldDebit(holdId);
+    return HoldDTO.from(hold);
+  }
+
+  /** Releases one expired hold; a hold captured or released concurrently is left untouched. */
+  @Transactional
+  public void expireHold(long holdId) {
+    holdRepository
+        .findById(holdId)
+        .filter(hold -> holdRepository.expire(holdId, Instant.now()) == 1)
+        .ifPresent(
+            hold -> {
+              accountRepository.release(hold.getAccountId(), hold.getAmount());
+              accountService.cancelHoldDebit(holdId);
+            });
+  }
+
+  private Hold findHold(long userId, long holdId) {
+    return holdRepository
+        .findByIdAndUserId(holdId, userId)
+        .orElseThrow(HoldNotFoundException::new);
+  }
+}
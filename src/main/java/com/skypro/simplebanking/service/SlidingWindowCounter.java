@@ -0,0 +1,95 @@
+package com.skypro.simplebanking.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/** Time-bucketed ring of amount/count totals; immutable buckets are swapped with CAS. */
+class SlidingWindowCounter {
+  private static final int BUCKETS = 60;
+
+  private final long bucketMillis;
+  private final AtomicReferenceArray<Bucket> ring = new AtomicReferenceArray<>(BUCKETS);
+  private volatile long lastEpoch;
+
+  SlidingWindowCounter(Duration window) {
+    this.bucketMillis = Math.max(1, window.toMillis() / BUCKETS);
+  }
+
+  /** Adds to the bucket for {@code nowMillis} and returns its epoch, for {@link #remove}. */
+  long add(long amount, long nowMillis) {
+    long epoch = nowMillis / bucketMillis;
+    int slot = (int) (epoch % BUCKETS);
+    while (true) {
+      Bucket current = ring.get(slot);
+      Bucket next =
+          current != null && current.epoch >= epoch
+              // A late writer joins the newer bucket rather than wiping it out.
+              ? new Bucket(current.epoch, current.amount + amount, current.count + 1)
+              : new Bucket(epoch, amount, 1);
+      if (ring.compareAndSet(slot, current, next)) {
+        lastEpoch = Math.max(lastEpoch, next.epoch);
+        return next.epoch;
+      }
+    }
+  }
+
+  /** The epoch {@link #add} used for a debit at {@code millis}, unless a newer one absorbed it. */
+  long epochAt(long millis) {
+    return millis / bucketMillis;
+  }
+
+  /** Undoes an {@link #add}, unless its bucket has already left the ring. */
+  void remove(long epoch, long amount) {
+    int slot = (int) (epoch % BUCKETS);
+    while (true) {
+      Bucket current = ring.get(slot);
+      if (current == null || current.epoch != epoch) {
+        return;
+      }
+      Bucket next = new Bucket(epoch, current.amount - amount, current.count - 1);
+      if (ring.compareAndSet(slot, current, next)) {
+        return;
+      }
+    }
+  }
+
+  long amount(long nowMillis) {
+    long oldest = nowMillis / bucketMillis - BUCKETS;
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      Bucket bucket = ring.get(i);
+      if (bucket != null && bucket.epoch > oldest) {
+        total += bucket.amount;
+      }
+    }
+    return total;
+  }
+
+  long count(long nowMillis) {
+    long oldest = nowMillis / bucketMillis - BUCKETS;
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      Bucket bucket = ring.get(i);
+      if (bucket != null && bucket.epoch > oldest) {
+        total += bucket.count;
+      }
+    }
+    return total;
+  }
+
+  boolean isIdle(long nowMillis) {
+    return lastEpoch <= nowMillis / bucketMillis - BUCKETS;
+  }
+
+  private static final class Bucket {
+    private final long epoch;
+    private final long amount;
+    private final long count;
+
+    private Bucket(long epoch, long amount, long count) {
+      this.epoch = epoch;
+      this.amount = amount;
+      this.count = count;
+    }
+  }
+}
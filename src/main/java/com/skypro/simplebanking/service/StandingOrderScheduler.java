@@ -0,0 +1,101 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.configuration.ConnectionBudget;
+import com.skypro.simplebanking.entity.StandingOrder;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** Executes due standing orders, one at a time per source account, on a small worker pool. */
+@Component
+@Lazy(false)
+public class StandingOrderScheduler {
+  private static final Logger log = LoggerFactory.getLogger(StandingOrderScheduler.class);
+
+  private final StandingOrderService standingOrderService;
+  private final ExecutorService workers;
+  private final int batchSize;
+  private final Semaphore inFlight;
+  private final Map<Long, CompletableFuture<Void>> accountTails = new ConcurrentHashMap<>();
+
+  public StandingOrderScheduler(
+      StandingOrderService standingOrderService,
+      ConnectionBudget connectionBudget,
+      @Value("${app.standing-orders.batch-size:500}") int batchSize,
+      @Value("${app.standing-orders.max-in-flight:1000}") int maxInFlight) {
+    this.standingOrderService = standingOrderService;
+    // Each worker holds a connection while it runs, so the pool size comes from the budget.
+    this.workers = Executors.newFixedThreadPool(connectionBudget.getStandingOrderWorkers());
+    this.batchSize = batchSize;
+    this.inFlight = new Semaphore(Math.max(maxInFlight, batchSize));
+  }
+
+  @Scheduled(fixedDelayString = "${app.standing-orders.poll-interval-millis:1000}")
+  public void runDueOrders() {
+    List<StandingOrder> claimed;
+    do {
+      // Only lease as many orders as there is room for, so none sits out its lease in a queue.
+      inFlight.acquireUninterruptibly(batchSize);
+      try {
+        claimed = standingOrderService.claimDueOrders(batchSize);
+      } catch (RuntimeException e) {
+        inFlight.release(batchSize);
+        throw e;
+      }
+      inFlight.release(batchSize - claimed.size());
+      claimed.stream()
+          .sorted(Comparator.comparing(StandingOrder::getNextRunAt))
+          .forEach(this::submit);
+    } while (claimed.size() == batchSize);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    workers.shutdownNow();
+  }
+
+  private void submit(StandingOrder order) {
+    Long accountId = order.getFromAccountId();
+    CompletableFuture<Void> next =
+        accountTails.compute(
+            accountId,
+            (id, tail) ->
+                tail == null
+                    ? CompletableFuture.runAsync(() -> execute(order), workers)
+                    : tail.exceptionally(error -> null)
+                        .thenRunAsync(() -> execute(order), workers));
+    next.whenComplete(
+        (result, error) -> {
+          accountTails.remove(accountId, next);
+          inFlight.release();
+        });
+  }
+
+  private void execute(StandingOrder order) {
+    try {
+      standingOrderService.execute(order.getId(), order.getLeaseToken());
+    } catch (RuntimeException e) {
+      log.warn("Standing order {} failed", order.getId(), e);
+      try {
+        standingOrderService.recordFailure(
+            order.getId(),
+            order.getLeaseToken(),
+            e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+      } catch (RuntimeException recordError) {
+        log.error("Could not record failure of standing order {}", order.getId(), recordError);
+      }
+    }
+  }
+}
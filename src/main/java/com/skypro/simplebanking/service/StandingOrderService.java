@@ -0,0 +1,169 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.dto.StandingOrderDTO;
+import com.skypro.simplebanking.dto.StandingOrderRequest;
+import com.skypro.simplebanking.dto.TransferRequest;
+import com.skypro.simplebanking.entity.StandingOrder;
+import com.skypro.simplebanking.entity.StandingOrderStatus;
+import com.skypro.simplebanking.exception.InvalidAmountException;
+import com.skypro.simplebanking.exception.InvalidScheduleException;
+import com.skypro.simplebanking.exception.StandingOrderNotFoundException;
+import com.skypro.simplebanking.repository.StandingOrderRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class StandingOrderService {
+  private final StandingOrderRepository standingOrderRepository;
+  private final AccountService accountService;
+  private final TransferService transferService;
+  private final Duration lease;
+  private final Duration retryDelay;
+  private final int maxAttempts;
+
+  public StandingOrderService(
+      StandingOrderRepository standingOrderRepository,
+      AccountService accountService,
+      TransferService transferService,
+      @Value("${app.standing-orders.lease-seconds:300}") long leaseSeconds,
+      @Value("${app.standing-orders.retry-delay-seconds:600}") long retryDelaySeconds,
+      @Value("${app.standing-orders.max-attempts:3}") int maxAttempts) {
+    this.standingOrderRepository = standingOrderRepository;
+    this.accountService = accountService;
+    this.transferService = transferService;
+    this.lease = Duration.ofSeconds(leaseSeconds);
+    this.retryDelay = Duration.ofSeconds(retryDelaySeconds);
+    this.maxAttempts = maxAttempts;
+  }
+
+  @Transactional
+  public StandingOrderDTO createStandingOrder(long userId, StandingOrderRequest request) {
+    if (request.getAmount() <= 0
+        || (request.getIntervalDays() != null && request.getIntervalDays() <= 0)) {
+      throw new InvalidAmountException();
+    }
+    Instant now = Instant.now();
+    Instant firstRunAt = request.getFirstRunAt() == null ? now : request.getFirstRunAt();
+    if (firstRunAt.isBefore(now)) {
+      throw new InvalidScheduleException();
+    }
+    accountService.getAccount(userId, request.getFromAccountId());
+    StandingOrder order = new StandingOrder();
+    order.setUserId(userId);
+    order.setFromAccountId(request.getFromAccountId());
+    order.setToUserId(request.getToUserId());
+    order.setToAccountId(request.getToAccountId());
+    order.setAmount(request.getAmount());
+    order.setIntervalDays(request.getIntervalDays());
+    order.setScheduledFor(firstRunAt);
+    order.setNextRunAt(firstRunAt);
+    order.setStatus(StandingOrderStatus.ACTIVE);
+    return StandingOrderDTO.from(standingOrderRepository.save(order));
+  }
+
+  @Transactional(readOnly = true)
+  public List<StandingOrderDTO> listStandingOrders(long userId) {
+    return standingOrderRepository.findAllByUserIdOrderByNextRunAt(userId).stream()
+        .map(StandingOrderDTO::from)
+        .collect(Collectors.toList());
+  }
+
+  @Transactional
+  public void cancelStandingOrder(long userId, long id) {
+    if (standingOrderRepository.cancel(id, userId) == 0) {
+      throw new StandingOrderNotFoundException();
+    }
+  }
+
+  @Transactional
+  public List<StandingOrder> claimDueOrders(int batchSize) {
+    Instant now = Instant.now();
+    return standingOrderRepository.claimDue(
+        now, now.plus(lease), UUID.randomUUID().toString(), batchSize);
+  }
+
+  /**
+   * Runs the transfer and records the successful run in one transaction. Does nothing unless the
+   * caller still holds the lease it claimed the order with.
+   */
+  @Transactional
+  public void execute(long id, String leaseToken) {
+    StandingOrder order =
+        standingOrderRepository
+            .findByIdForUpdate(id)
+            .orElseThrow(StandingOrderNotFoundException::new);
+    Instant now = Instant.now();
+    if (!holdsLease(order, leaseToken, now) || order.getNextRunAt().isAfter(now)) {
+      return;
+    }
+    TransferRequest transferRequest = new TransferRequest();
+    transferRequest.setFromAccountId(order.getFromAccountId());
+    transferRequest.setToUserId(order.getToUserId());
+    transferRequest.setToAccountId(order.getToAccountId());
+    transferRequest.setAmount(order.getAmount());
+    transferService.transfer(order.getUserId(), transferRequest);
+
+    // The account updates clear the persistence context, so record the run on a fresh copy.
+    StandingOrder executed =
+        standingOrderRepository.findById(id).orElseThrow(StandingOrderNotFoundException::new);
+    executed.setLastRunAt(Instant.now());
+    executed.setLastError(null);
+    executed.setAttempts(0);
+    executed.setLockedUntil(null);
+    executed.setLeaseToken(null);
+    scheduleNextOccurrence(executed);
+  }
+
+  @Transactional
+  public void recordFailure(long id, String leaseToken, String error) {
+    standingOrderRepository
+        .findByIdForUpdate(id)
+        .filter(order -> holdsLease(order, leaseToken, Instant.now()))
+        .ifPresent(
+            order -> {
+              order.setLastRunAt(Instant.now());
+              order.setLastError(error.length() > 255 ? error.substring(0, 255) : error);
+              order.setLockedUntil(null);
+              order.setLeaseToken(null);
+              order.setAttempts(order.getAttempts() + 1);
+              if (order.getAttempts() < maxAttempts) {
+                order.setNextRunAt(
+                    Instant.now().plus(retryDelay.multipliedBy(order.getAttempts())));
+              } else if (order.getIntervalDays() == null) {
+                order.setStatus(StandingOrderStatus.FAILED);
+              } else {
+                order.setAttempts(0);
+                scheduleNextOccurrence(order);
+              }
+            });
+  }
+
+  private static boolean holdsLease(StandingOrder order, String leaseToken, Instant now) {
+    return order.getStatus() == StandingOrderStatus.ACTIVE
+        && leaseToken.equals(order.getLeaseToken())
+        && order.getLockedUntil() != null
+        && order.getLockedUntil().isAfter(now);
+  }
+
+  /** Moves to the next occurrence after the one just settled, skipping any missed ones. */
+  private void scheduleNextOccurrence(StandingOrder order) {
+    if (order.getIntervalDays() == null) {
+      order.setStatus(StandingOrderStatus.COMPLETED);
+      return;
+    }
+    Duration interval = Duration.ofDays(order.getIntervalDays());
+    Instant now = Instant.now();
+    Instant next = order.getScheduledFor().plus(interval);
+    while (!next.isAfter(now)) {
+      next = next.plus(interval);
+    }
+    order.setScheduledFor(next);
+    order.setNextRunAt(next);
+  }
+}
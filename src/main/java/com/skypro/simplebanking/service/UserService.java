@@ -9,6 +9,7 @@ import com.skypro.simplebanking.repository.UserRepository;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -21,19 +22,25 @@ public class UserService implements UserDetailsService {
   private final UserRepository userRepository;
   private final AccountService accountService;
   private final PasswordEncoder passwordEncoder;
+  private final UsernameBloomFilter usernameBloomFilter;
 
   public UserService(
       UserRepository userRepository,
       AccountService accountService,
-      PasswordEncoder passwordEncoder) {
+      PasswordEncoder passwordEncoder,
+      UsernameBloomFilter usernameBloomFilter) {
     this.userRepository = userRepository;
     this.accountService = accountService;
     this.passwordEncoder = passwordEncoder;
+    this.usernameBloomFilter = usernameBloomFilter;
   }
 
   @Override
   @Transactional(readOnly = true)
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+    if (usernameBloomFilter.isDefinitelyAbsent(username)) {
+      throw new UsernameNotFoundException("User not found");
+    }
     return userRepository
         .findByUsername(username)
         .map(BankingUserDetails::from)
@@ -42,14 +49,21 @@ public class UserService implements UserDetailsService {
 
   @Transactional
   public UserDTO createUser(String username, String password) {
-    Optional<User> existingUser = userRepository.findByUsername(username);
-    if (existingUser.isPresent()) {
-      throw new UserAlreadyExistsException();
+    if (!usernameBloomFilter.isDefinitelyAbsent(username)) {
+      Optional<User> existingUser = userRepository.findByUsername(username);
+      if (existingUser.isPresent()) {
+        throw new UserAlreadyExistsException();
+      }
     }
     User user = new User();
     user.setUsername(username);
     user.setPassword(passwordEncoder.encode(password));
-    userRepository.save(user);
+    try {
+      userRepository.saveAndFlush(user);
+    } catch (DataIntegrityViolationException e) {
+      throw new UserAlreadyExistsException();
+    }
+    usernameBloomFilter.addAndPublish(username);
     accountService.createDefaultAccounts(user);
     return UserDTO.from(user);
   }
@@ -59,6 +73,8 @@ public class UserService implements UserDetailsService {
   }
   @Transactional(readOnly = true)
   public List<ListUserDTO> listUsers() {
-    return userRepository.findAll().stream().map(ListUserDTO::from).collect(Collectors.toList());
+    return userRepository.findAllWithAccounts().stream()
+        .map(ListUserDTO::from)
+        .collect(Collectors.toList());
   }
 }
@@ -0,0 +1,175 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.event.PostgresNotifications;
+import com.skypro.simplebanking.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.ToDoubleFunction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bloom filter over existing usernames; only a negative answer is trusted, and only while
+ * notifications from other nodes are being received.
+ */
+@Component
+@Lazy(false)
+public class UsernameBloomFilter {
+  static final String CHANNEL = "usernames";
+
+  private final UserRepository userRepository;
+  private final PostgresNotifications notifications;
+  private final double falsePositiveProbability;
+  private final int minimumCapacity;
+  private final Object lock = new Object();
+
+  private volatile Filter current;
+  private Set<String> addedSinceRebuild = new HashSet<>();
+
+  public UsernameBloomFilter(
+      UserRepository userRepository,
+      PostgresNotifications notifications,
+      MeterRegistry meterRegistry,
+      @Value("${app.username-filter.false-positive-probability:0.01}")
+          double falsePositiveProbability,
+      @Value("${app.username-filter.minimum-capacity:100000}") int minimumCapacity) {
+    this.userRepository = userRepository;
+    this.notifications = notifications;
+    this.falsePositiveProbability = falsePositiveProbability;
+    this.minimumCapacity = minimumCapacity;
+    Gauge.builder("banking.username.filter.false.positive.rate", this, f -> f.estimate(Filter::fpp))
+        .description("Estimated false-positive rate of the username Bloom filter")
+        .register(meterRegistry);
+    Gauge.builder("banking.username.filter.memory", this, f -> f.estimate(Filter::sizeInBytes))
+        .description("Memory used by the username Bloom filter bit array")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    notifications.subscribe(CHANNEL, this::add);
+    notifications.onConnected(this::rebuild);
+  }
+
+  /**
+   * Returns {@code true} only when the username is known not to exist. While the listener is down
+   * names created on other nodes are missed, so nothing is reported absent until it reconnects and
+   * the filter is rebuilt.
+   */
+  public boolean isDefinitelyAbsent(String username) {
+    Filter filter = current;
+    return filter != null && notifications.isListening() && !filter.mightContain(username);
+  }
+
+  public void add(String username) {
+    synchronized (lock) {
+      addedSinceRebuild.add(username);
+      Filter filter = current;
+      if (filter != null) {
+        filter.put(username);
+      }
+    }
+  }
+
+  /** Adds {@code username} here and, once the current transaction commits, on the other nodes. */
+  public void addAndPublish(String username) {
+    add(username);
+    notifications.notifyOthers(CHANNEL, username);
+  }
+
+  @Scheduled(
+      initialDelayString = "${app.username-filter.initial-delay-millis:0}",
+      fixedDelayString = "${app.username-filter.rebuild-interval-millis:600000}")
+  public synchronized void rebuild() {
+    Set<String> previouslyAdded;
+    synchronized (lock) {
+      previouslyAdded = addedSinceRebuild;
+      addedSinceRebuild = new HashSet<>();
+    }
+    List<String> usernames = userRepository.findAllUsernames();
+    Filter next =
+        new Filter(Math.max(minimumCapacity, usernames.size() * 2L), falsePositiveProbability);
+    usernames.forEach(next::put);
+    previouslyAdded.forEach(next::put);
+    synchronized (lock) {
+      addedSinceRebuild.forEach(next::put);
+      current = next;
+    }
+  }
+
+  private double estimate(ToDoubleFunction<Filter> metric) {
+    Filter filter = current;
+    return filter == null ? 0 : metric.applyAsDouble(filter);
+  }
+
+  private static final class Filter {
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private Filter(long expectedInsertions, double fpp) {
+      long optimalBits =
+          (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+      this.bits = new AtomicLongArray((int) ((optimalBits + 63) / 64));
+      this.bitCount = bits.length() * 64L;
+      this.hashFunctions =
+          Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    private void put(String value) {
+      long hash = hash(value);
+      int first = (int) hash;
+      int second = (int) (hash >>> 32);
+      for (int i = 1; i <= hashFunctions; i++) {
+        long index = Integer.toUnsignedLong(first + i * second) % bitCount;
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long old;
+        do {
+          old = bits.get(word);
+        } while ((old & mask) == 0 && !bits.compareAndSet(word, old, old | mask));
+      }
+      insertions.incrementAndGet();
+    }
+
+    private boolean mightContain(String value) {
+      long hash = hash(value);
+      int first = (int) hash;
+      int second = (int) (hash >>> 32);
+      for (int i = 1; i <= hashFunctions; i++) {
+        long index = Integer.toUnsignedLong(first + i * second) % bitCount;
+        if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private double fpp() {
+      return Math.pow(
+          1 - Math.exp(-hashFunctions * (double) insertions.get() / bitCount), hashFunctions);
+    }
+
+    private double sizeInBytes() {
+      return bits.length() * 8.0;
+    }
+
+    private static long hash(String value) {
+      long hash = 0xcbf29ce484222325L;
+      for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+        hash ^= b;
+        hash *= 0x100000001b3L;
+      }
+      hash ^= hash >>> 33;
+      hash *= 0xff51afd7ed558ccdL;
+      hash ^= hash >>> 33;
+      return hash;
+    }
+  }
+}
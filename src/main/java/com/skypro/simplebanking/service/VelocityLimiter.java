@@ -0,0 +1,282 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.configuration.VelocityProperties;
+import com.skypro.simplebanking.configuration.VelocityProperties.Limit;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.Debit;
+import com.skypro.simplebanking.exception.VelocityLimitExceededException;
+import com.skypro.simplebanking.repository.DebitRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import javax.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** Sliding-window limits on outgoing amounts; a rejected or rolled-back debit is undone. */
+@Component
+@Lazy(false)
+public class VelocityLimiter {
+  private final VelocityProperties properties;
+  private final DebitRepository debitRepository;
+  private final int restorePageSize;
+  private final Map<String, SlidingWindowCounter> counters = new ConcurrentHashMap<>();
+
+  public VelocityLimiter(
+      VelocityProperties properties,
+      DebitRepository debitRepository,
+      @Value("${app.velocity.restore-page-size:1000}") int restorePageSize) {
+    this.properties = properties;
+    this.debitRepository = debitRepository;
+    this.restorePageSize = restorePageSize;
+  }
+
+  public boolean isEnabled() {
+    return !properties.isEmpty();
+  }
+
+  public void recordDebit(long userId, long accountId, AccountCurrency currency, long amount) {
+    recordDebit(userId, accountId, currency, amount, null);
+  }
+
+  /** Records a debit; one recorded for a hold is taken back out by {@link #cancelHoldDebit}. */
+  public void recordDebit(
+      long userId, long accountId, AccountCurrency currency, long amount, Long holdId) {
+    Instant now = Instant.now();
+    List<Runnable> undo = new ArrayList<>();
+    try {
+      record(userId, accountId, currency, amount, now.toEpochMilli(), true, undo);
+    } catch (VelocityLimitExceededException e) {
+      undo.forEach(Runnable::run);
+      throw e;
+    }
+    Debit debit = new Debit();
+    debit.setUserId(userId);
+    debit.setAccountId(accountId);
+    debit.setCurrency(currency);
+    debit.setAmount(amount);
+    debit.setCreatedAt(now);
+    debit.setHoldId(holdId);
+    debitRepository.save(debit);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              if (status != STATUS_COMMITTED) {
+                undo.forEach(Runnable::run);
+              }
+            }
+          });
+    }
+  }
+
+  /**
+   * Takes the debit of a released or expired hold out of the log and, once the current transaction
+   * commits, out of the windows.
+   */
+  public void cancelHoldDebit(long holdId) {
+    List<Debit> debits = debitRepository.findAllByHoldId(holdId);
+    if (debits.isEmpty()) {
+      return;
+    }
+    debitRepository.deleteAll(debits);
+    Runnable undo = () -> debits.forEach(this::remove);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              undo.run();
+            }
+          });
+    } else {
+      undo.run();
+    }
+  }
+
+  /**
+   * Replays the debit log into the windows, so a restart does not reset the limits. Runs while the
+   * context starts, before scheduled jobs can record live debits, and replays oldest first so that
+   * no debit lands in a bucket newer than its own.
+   */
+  @PostConstruct
+  public void restore() {
+    if (!isEnabled()) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    Instant after = Instant.ofEpochMilli(now).minus(longestWindow());
+    long afterId = Long.MIN_VALUE;
+    List<Debit> page;
+    do {
+      page = debitRepository.findPageAfter(after, afterId, PageRequest.of(0, restorePageSize));
+      for (Debit debit : page) {
+        replay(debit, now);
+        after = debit.getCreatedAt();
+        afterId = debit.getId();
+      }
+    } while (page.size() == restorePageSize);
+  }
+
+  @Scheduled(fixedDelayString = "${app.velocity.eviction-interval-millis:60000}")
+  public void evictIdle() {
+    long now = System.currentTimeMillis();
+    // Removing under compute keeps eviction from dropping a counter that is being written to.
+    for (String key : counters.keySet()) {
+      counters.computeIfPresent(key, (k, counter) -> counter.isIdle(now) ? null : counter);
+    }
+    if (isEnabled()) {
+      debitRepository.deleteOlderThan(Instant.ofEpochMilli(now).minus(longestWindow()));
+    }
+  }
+
+  private void record(
+      long userId,
+      long accountId,
+      AccountCurrency currency,
+      long amount,
+      long now,
+      boolean enforce,
+      List<Runnable> undo) {
+    recordInWindows(
+        accountKey(accountId),
+        properties.getAccountLimits(currency),
+        amount,
+        now,
+        now,
+        enforce,
+        undo);
+    recordInWindows(
+        userKey(userId, currency),
+        properties.getUserLimits(currency),
+        amount,
+        now,
+        now,
+        enforce,
+        undo);
+  }
+
+  /** Adds a logged debit to those of its windows that still cover it. */
+  private void replay(Debit debit, long now) {
+    long at = debit.getCreatedAt().toEpochMilli();
+    List<Runnable> undo = new ArrayList<>();
+    recordInWindows(
+        accountKey(debit.getAccountId()),
+        properties.getAccountLimits(debit.getCurrency()),
+        debit.getAmount(),
+        at,
+        now,
+        false,
+        undo);
+    recordInWindows(
+        userKey(debit.getUserId(), debit.getCurrency()),
+        properties.getUserLimits(debit.getCurrency()),
+        debit.getAmount(),
+        at,
+        now,
+        false,
+        undo);
+  }
+
+  private void remove(Debit debit) {
+    long at = debit.getCreatedAt().toEpochMilli();
+    removeFromWindows(
+        accountKey(debit.getAccountId()),
+        properties.getAccountLimits(debit.getCurrency()),
+        debit.getAmount(),
+        at);
+    removeFromWindows(
+        userKey(debit.getUserId(), debit.getCurrency()),
+        properties.getUserLimits(debit.getCurrency()),
+        debit.getAmount(),
+        at);
+  }
+
+  /**
+   * Adds the debit made at {@code at} once per distinct window that still covers it at {@code
+   * now}, then checks every limit sharing that window.
+   */
+  private void recordInWindows(
+      String key,
+      List<Limit> limits,
+      long amount,
+      long at,
+      long now,
+      boolean enforce,
+      List<Runnable> undo) {
+    for (Map.Entry<Duration, List<Limit>> entry : byWindow(limits).entrySet()) {
+      Duration window = entry.getKey();
+      if (at <= now - window.toMillis()) {
+        continue;
+      }
+      long[] epoch = new long[1];
+      SlidingWindowCounter counter =
+          counters.compute(
+              key + "/" + window,
+              (k, existing) -> {
+                SlidingWindowCounter target =
+                    existing != null ? existing : new SlidingWindowCounter(window);
+                epoch[0] = target.add(amount, at);
+                return target;
+              });
+      undo.add(() -> counter.remove(epoch[0], amount));
+      if (!enforce) {
+        continue;
+      }
+      for (Limit limit : entry.getValue()) {
+        if (counter.amount(now) > limit.getMaxAmount()
+            || counter.count(now) > limit.getMaxCount()) {
+          throw new VelocityLimitExceededException(
+              "Velocity limit exceeded for " + window.getSeconds() + "s window");
+        }
+      }
+    }
+  }
+
+  private void removeFromWindows(String key, List<Limit> limits, long amount, long at) {
+    for (Duration window : byWindow(limits).keySet()) {
+      counters.computeIfPresent(
+          key + "/" + window,
+          (k, counter) -> {
+            counter.remove(counter.epochAt(at), amount);
+            return counter;
+          });
+    }
+  }
+
+  private static Map<Duration, List<Limit>> byWindow(List<Limit> limits) {
+    Map<Duration, List<Limit>> byWindow = new LinkedHashMap<>();
+    for (Limit limit : limits) {
+      byWindow.computeIfAbsent(limit.getWindow(), window -> new ArrayList<>()).add(limit);
+    }
+    return byWindow;
+  }
+
+  private static String accountKey(long accountId) {
+    return "account:" + accountId;
+  }
+
+  private static String userKey(long userId, AccountCurrency currency) {
+    return "user:" + userId + ":" + currency;
+  }
+
+  private Duration longestWindow() {
+    return Stream.concat(
+            properties.getAccount().values().stream(), properties.getUser().values().stream())
+        .flatMap(List::stream)
+        .map(Limit::getWindow)
+        .max(Duration::compareTo)
+        .orElse(Duration.ZERO);
+  }
+}
@@ -0,0 +1,56 @@
+package com.skypro.simplebanking.sharding;
+
+/**
+ * Time-ordered ids built from seconds since 2024-01-01, a 6-bit node id and a 16-bit per-second
+ * sequence. Ids stay below 2^53 so JSON clients can read them without losing precision.
+ */
+public class GlobalIdAllocator {
+  static final long EPOCH_SECONDS = 1_704_067_200L;
+  static final int NODE_BITS = 6;
+  static final int SEQUENCE_BITS = 16;
+  static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+  private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+  private final long nodeId;
+  private long lastSecond = -1;
+  private long sequence;
+
+  public GlobalIdAllocator(long nodeId) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID);
+    }
+    this.nodeId = nodeId;
+  }
+
+  public synchronized long next() {
+    long second = Math.max(lastSecond, currentSecond());
+    if (second == lastSecond) {
+      sequence++;
+      if (sequence > MAX_SEQUENCE) {
+        second = waitForNextSecond(second);
+        sequence = 0;
+      }
+    } else {
+      sequence = 0;
+    }
+    lastSecond = second;
+    return (second << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+  }
+
+  public static long nodeIdOf(long id) {
+    return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+  }
+
+  private long waitForNextSecond(long second) {
+    long next = currentSecond();
+    while (next <= second) {
+      Thread.onSpinWait();
+      next = currentSecond();
+    }
+    return next;
+  }
+
+  private static long currentSecond() {
+    return System.currentTimeMillis() / 1000 - EPOCH_SECONDS;
+  }
+}
@@ -0,0 +1,38 @@
+package com.skypro.simplebanking.sharding;
+
+import java.io.Serializable;
+import java.util.Properties;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.Configurable;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * Hibernate adapter for {@link GlobalIdAllocator}. Hibernate creates one generator per entity, so
+ * each table has its own per-second sequence; the node id comes from {@code app.ids.node-id}.
+ */
+public class GlobalIdGenerator implements IdentifierGenerator, Configurable {
+  public static final String NODE_ID_SETTING = "app.ids.node-id";
+
+  private GlobalIdAllocator allocator;
+
+  @Override
+  public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) {
+    Object nodeId =
+        serviceRegistry.getService(ConfigurationService.class).getSettings().get(NODE_ID_SETTING);
+    // Two instances sharing a node id would hand out the same ids, so there is no default.
+    try {
+      allocator = new GlobalIdAllocator(Long.parseLong(String.valueOf(nodeId).trim()));
+    } catch (NumberFormatException e) {
+      throw new IllegalStateException(
+          NODE_ID_SETTING + " must be set to a number unique to this instance, got " + nodeId, e);
+    }
+  }
+
+  @Override
+  public Serializable generate(SharedSessionContractImplementor session, Object object) {
+    return allocator.next();
+  }
+}
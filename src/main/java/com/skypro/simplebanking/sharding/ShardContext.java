@@ -0,0 +1,33 @@
+package com.skypro.simplebanking.sharding;
+
+import java.util.function.Supplier;
+
+public final class ShardContext {
+  private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+  private ShardContext() {}
+
+  public static Integer current() {
+    return CURRENT.get();
+  }
+
+  /** Runs {@code action} with every connection it opens routed to {@code shard}. */
+  public static <T> T onShard(int shard, Supplier<T> action) {
+    Integer previous = CURRENT.get();
+    CURRENT.set(shard);
+    try {
+      return action.get();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+  public static int shardOf(long userId, int shardCount) {
+    long hash = userId * 0x9E3779B97F4A7C15L;
+    return (int) Math.floorMod(hash ^ (hash >>> 32), (long) shardCount);
+  }
+}
@@ -0,0 +1,41 @@
+package com.skypro.simplebanking.sharding;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/** Routes connections to the shard set in {@link ShardContext}; shard 0 when none is set. */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+  private final List<DataSource> shards;
+
+  public ShardRoutingDataSource(List<DataSource> shards) {
+    this.shards = List.copyOf(shards);
+    Map<Object, Object> targets = new HashMap<>();
+    for (int i = 0; i < shards.size(); i++) {
+      targets.put(i, shards.get(i));
+    }
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(shards.get(0));
+    setLenientFallback(false);
+    afterPropertiesSet();
+  }
+
+  public List<DataSource> getShards() {
+    return shards;
+  }
+
+  public int getShardCount() {
+    return shards.size();
+  }
+
+  public int shardOf(long userId) {
+    return ShardContext.shardOf(userId, shards.size());
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return ShardContext.current();
+  }
+}
@@ -0,0 +1,46 @@
+create table users
+(
+    id       bigint primary key,
+    username varchar(255),
+    password varchar(255)
+);
+
+create table accounts
+(
+    id               bigint primary key,
+    account_currency integer,
+    amount           bigint not null,
+    held_amount      bigint not null,
+    user_id          bigint not null references users (id)
+);
+
+create table holds
+(
+    id         bigint primary key,
+    account_id bigint       not null,
+    user_id    bigint       not null,
+    amount     bigint       not null,
+    status     varchar(255) not null,
+    expires_at timestamp    not null
+);
+
+create index holds_status_expires_at_idx on holds (status, expires_at);
+
+create table standing_orders
+(
+    id              bigint primary key,
+    user_id         bigint       not null,
+    from_account_id bigint       not null,
+    to_user_id      bigint       not null,
+    to_account_id   bigint       not null,
+    amount          bigint       not null,
+    interval_days   integer,
+    next_run_at     timestamp    not null,
+    status          varchar(255) not null,
+    attempts        integer      not null,
+    last_run_at     timestamp,
+    last_error      varchar(255),
+    locked_until    timestamp
+);
+
+create index standing_orders_due_idx on standing_orders (status, next_run_at);
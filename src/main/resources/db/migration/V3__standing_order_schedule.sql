@@ -0,0 +1,4 @@
+alter table standing_orders add column scheduled_for timestamp;
+update standing_orders set scheduled_for = next_run_at;
+alter table standing_orders alter column scheduled_for set not null;
+alter table standing_orders add column lease_token varchar(255);
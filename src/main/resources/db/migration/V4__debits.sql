@@ -0,0 +1,11 @@
+create table debits
+(
+    id         bigint primary key,
+    user_id    bigint    not null,
+    account_id bigint    not null,
+    currency   integer   not null,
+    amount     bigint    not null,
+    created_at timestamp not null
+);
+
+create index debits_created_at_idx on debits (created_at);
@@ -0,0 +1,3 @@
+alter table debits add column hold_id bigint;
+
+create index debits_hold_id_idx on debits (hold_id);
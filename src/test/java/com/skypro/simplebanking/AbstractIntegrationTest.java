@@ -0,0 +1,26 @@
+package com.skypro.simplebanking;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+public abstract class AbstractIntegrationTest {
+  private static final AtomicLong NODE_IDS = new AtomicLong(1);
+
+  /** Each application context gets its own node id, as every instance must in production. */
+  public static long nextNodeId() {
+    return NODE_IDS.getAndIncrement();
+  }
+
+  @DynamicPropertySource
+  static void postgresProperties(DynamicPropertyRegistry registry) {
+    long nodeId = nextNodeId();
+    registry.add("app.ids.node-id", () -> nodeId);
+    registry.add("spring.datasource.url", () -> TestPostgres.container().getJdbcUrl());
+    registry.add("spring.datasource.username", () -> TestPostgres.container().getUsername());
+    registry.add("spring.datasource.password", () -> TestPostgres.container().getPassword());
+    // Background jobs are driven explicitly by the tests that need them.
+    registry.add("app.holds.sweep-interval-millis", () -> "3600000");
+    registry.add("app.standing-orders.poll-interval-millis", () -> "3600000");
+  }
+}
@@ -0,0 +1,40 @@
+package com.skypro.simplebanking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+class StartupTimeBenchmarkTest {
+  @Test
+  void prodProfileStartsAndRecordsStartupSteps() {
+    // The first start also pays for class loading and migrations, so it is not measured.
+    startAndStop();
+    long defaultMillis = startAndStop();
+    long prodMillis = startAndStop("prod");
+    System.out.printf("startup: default %d ms, prod %d ms%n", defaultMillis, prodMillis);
+  }
+
+  private long startAndStop(String... profiles) {
+    BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(4096);
+    long start = System.nanoTime();
+    try (ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(SimpleBankingApplication.class)
+            .applicationStartup(applicationStartup)
+            .profiles(profiles)
+            .properties(
+                "server.port=0",
+                "app.ids.node-id=" + AbstractIntegrationTest.nextNodeId(),
+                "spring.datasource.url=" + TestPostgres.container().getJdbcUrl(),
+                "spring.datasource.username=" + TestPostgres.container().getUsername(),
+                "spring.datasource.password=" + TestPostgres.container().getPassword())
+            .run()) {
+      long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+      assertThat(context.isActive()).isTrue();
+      assertThat(applicationStartup.getBufferedTimeline().getEvents()).isNotEmpty();
+      return elapsedMillis;
+    }
+  }
+}
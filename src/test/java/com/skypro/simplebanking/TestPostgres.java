@@ -0,0 +1,19 @@
+package com.skypro.simplebanking;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+public final class TestPostgres {
+  private static final PostgreSQLContainer<?> CONTAINER = start();
+
+  private TestPostgres() {}
+
+  public static PostgreSQLContainer<?> container() {
+    return CONTAINER;
+  }
+
+  public static PostgreSQLContainer<?> start() {
+    PostgreSQLContainer<?> container = new PostgreSQLContainer<>("postgres:15-alpine");
+    container.start();
+    return container;
+  }
+}
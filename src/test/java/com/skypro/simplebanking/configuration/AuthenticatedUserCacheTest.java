@@ -0,0 +1,47 @@
+package com.skypro.simplebanking.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class AuthenticatedUserCacheTest {
+  private final AuthenticatedUserCache cache =
+      new AuthenticatedUserCache(Duration.ofSeconds(30), 2);
+
+  @Test
+  void cachedUserIsReturnedUntilItExpires() {
+    BankingUserDetails alice = user("alice");
+    cache.putUserInCache(alice, 0);
+
+    assertThat(cache.getUserFromCache("alice", 29_999)).isSameAs(alice);
+    assertThat(cache.getUserFromCache("alice", 30_000)).isNull();
+  }
+
+  @Test
+  void removedUserIsLoadedAgain() {
+    cache.putUserInCache(user("alice"), 0);
+
+    cache.removeUserFromCache("alice");
+
+    assertThat(cache.getUserFromCache("alice", 0)).isNull();
+  }
+
+  @Test
+  void fullCacheMakesRoomOnlyByDroppingExpiredUsers() {
+    cache.putUserInCache(user("alice"), 0);
+    cache.putUserInCache(user("bob"), 10_000);
+
+    cache.putUserInCache(user("carol"), 20_000);
+    assertThat(cache.getUserFromCache("carol", 20_000)).isNull();
+
+    cache.putUserInCache(user("carol"), 35_000);
+    assertThat(cache.getUserFromCache("carol", 35_000)).isNotNull();
+    assertThat(cache.getUserFromCache("bob", 35_000)).isNotNull();
+  }
+
+  private static BankingUserDetails user(String username) {
+    return new BankingUserDetails(1, username, "hash", false);
+  }
+}
@@ -0,0 +1,39 @@
+package com.skypro.simplebanking.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class ConnectionBudgetTest {
+  @Test
+  void defaultsLeaveTheReserveFree() {
+    ConnectionBudget budget = new ConnectionBudget(10, 2, 0, 4);
+
+    assertThat(budget.getReadThreads()).isEqualTo(5);
+    assertThat(budget.getStandingOrderWorkers()).isEqualTo(2);
+    assertThat(budget.getReadThreads() + budget.getStandingOrderWorkers() + 1).isLessThan(10);
+  }
+
+  @Test
+  void oversizedPoolsAreCappedBelowTheConnectionPool() {
+    ConnectionBudget budget = new ConnectionBudget(10, 1, 20, 20);
+
+    assertThat(budget.getReadThreads()).isEqualTo(7);
+    assertThat(budget.getStandingOrderWorkers()).isEqualTo(1);
+  }
+
+  @Test
+  void largerPoolMakesRoomForAllConfiguredWorkers() {
+    ConnectionBudget budget = new ConnectionBudget(20, 2, 0, 4);
+
+    assertThat(budget.getReadThreads()).isEqualTo(10);
+    assertThat(budget.getStandingOrderWorkers()).isEqualTo(4);
+  }
+
+  @Test
+  void poolTooSmallForTheBackgroundWorkIsRejected() {
+    assertThatThrownBy(() -> new ConnectionBudget(4, 2, 0, 4))
+        .isInstanceOf(IllegalStateException.class);
+  }
+}
@@ -0,0 +1,72 @@
+package com.skypro.simplebanking.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.ListAccountDTO;
+import com.skypro.simplebanking.dto.ListUserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class ContentNegotiationBenchmarkTest {
+  private static final int WARM_UP_ITERATIONS = 200;
+  private static final int MEASURED_ITERATIONS = 500;
+
+  private final ObjectMapper json = new Jackson2ObjectMapperBuilder().build();
+  private final ObjectMapper smile =
+      new ContentNegotiationConfiguration()
+          .smileHttpMessageConverter(new Jackson2ObjectMapperBuilder())
+          .getObjectMapper();
+
+  @Test
+  void smileIsSmallerThanJsonForUserList() throws Exception {
+    List<ListUserDTO> users = new ArrayList<>();
+    for (long id = 0; id < 1_000; id++) {
+      List<ListAccountDTO> accounts = new ArrayList<>();
+      for (AccountCurrency currency : AccountCurrency.values()) {
+        accounts.add(new ListAccountDTO(id * 3 + currency.ordinal(), currency));
+      }
+      users.add(new ListUserDTO(id, "user-" + id, accounts));
+    }
+
+    report("List<ListUserDTO>", users);
+  }
+
+  @Test
+  void smileIsSmallerThanJsonForAccount() throws Exception {
+    report("AccountDTO", new AccountDTO(123_456_789L, 1_000_000L, AccountCurrency.EUR));
+  }
+
+  private void report(String name, Object payload) throws Exception {
+    byte[] jsonBytes = json.writeValueAsBytes(payload);
+    byte[] smileBytes = smile.writeValueAsBytes(payload);
+
+    long jsonNanos = measure(json, payload);
+    long smileNanos = measure(smile, payload);
+    System.out.printf(
+        "%s: json %d bytes, %d us/op; smile %d bytes, %d us/op%n",
+        name,
+        jsonBytes.length,
+        jsonNanos / 1_000,
+        smileBytes.length,
+        smileNanos / 1_000);
+
+    assertThat(smileBytes.length).isLessThan(jsonBytes.length);
+    assertThat(smile.readTree(smileBytes)).isEqualTo(json.readTree(jsonBytes));
+  }
+
+  private long measure(ObjectMapper mapper, Object payload) throws Exception {
+    for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+      mapper.readTree(mapper.writeValueAsBytes(payload));
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      mapper.readTree(mapper.writeValueAsBytes(payload));
+    }
+    return (System.nanoTime() - start) / MEASURED_ITERATIONS;
+  }
+}
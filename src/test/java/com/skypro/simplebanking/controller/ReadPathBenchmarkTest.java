@@ -0,0 +1,165 @@
+package com.skypro.simplebanking.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.skypro.simplebanking.AbstractIntegrationTest;
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.service.AccountService;
+import com.skypro.simplebanking.service.UserService;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(ReadPathBenchmarkTest.BlockingAccountController.class)
+@TestPropertySource(properties = "app.sql-instrumentation.debug-header=true")
+class ReadPathBenchmarkTest extends AbstractIntegrationTest {
+  // Roughly the number of dashboards a node serves, each polling its balance.
+  private static final int CONCURRENT_REQUESTS = 2_000;
+
+  @LocalServerPort private int port;
+  @Autowired private UserService userService;
+
+  private final HttpClient client = HttpClient.newHttpClient();
+
+  @Test
+  void reportsThreadsAndHeapForAsyncAndBlockingReads() throws Exception {
+    String username = "bench-" + UUID.randomUUID();
+    UserDTO user = userService.createUser(username, "password");
+    long accountId = user.getAccounts().get(0).getId();
+    String authorization =
+        "Basic "
+            + Base64.getEncoder()
+                .encodeToString((username + ":password").getBytes(StandardCharsets.UTF_8));
+
+    // The async path runs first so threads left over from the blocking run do not count.
+    Result async = run("/account/" + accountId, authorization);
+    Result blocking = run("/account/blocking/" + accountId, authorization);
+    System.out.printf(
+        "async: peak %d threads, %d KiB heap; blocking: peak %d threads, %d KiB heap%n",
+        async.peakThreads, async.heapKib, blocking.peakThreads, blocking.heapKib);
+  }
+
+  @Test
+  void asyncReadIsAttributedToTheRequest() throws Exception {
+    String username = "bench-" + UUID.randomUUID();
+    UserDTO user = userService.createUser(username, "password");
+    String authorization =
+        "Basic "
+            + Base64.getEncoder()
+                .encodeToString((username + ":password").getBytes(StandardCharsets.UTF_8));
+
+    HttpResponse<String> response =
+        client.send(
+            request("/account/" + user.getAccounts().get(0).getId(), authorization),
+            HttpResponse.BodyHandlers.ofString());
+
+    assertThat(response.statusCode()).isEqualTo(200);
+    // The account is read on the read executor but counted against this request.
+    assertThat(response.headers().firstValueAsLong("X-Sql-Statements"))
+        .hasValueSatisfying(statements -> assertThat(statements).isPositive());
+  }
+
+  @Test
+  void bodilessResponsesCarryTheDebugHeaders() throws Exception {
+    String username = "bench-" + UUID.randomUUID();
+    userService.createUser(username, "password");
+    String authorization =
+        "Basic "
+            + Base64.getEncoder()
+                .encodeToString((username + ":password").getBytes(StandardCharsets.UTF_8));
+
+    HttpResponse<Void> response =
+        client.send(
+            HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + "/transfer/standing-orders/-1"))
+                .header("Authorization", authorization)
+                .DELETE()
+                .build(),
+            HttpResponse.BodyHandlers.discarding());
+
+    // Answered by ResponseEntity.notFound().build(), which never reaches a body advice.
+    assertThat(response.statusCode()).isEqualTo(404);
+    assertThat(response.headers().firstValueAsLong("X-Sql-Statements"))
+        .hasValueSatisfying(statements -> assertThat(statements).isPositive());
+    assertThat(response.headers().firstValue("X-Sql-Rows")).isPresent();
+  }
+
+  private Result run(String path, String authorization) {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    System.gc();
+    long heapBefore = memory.getHeapMemoryUsage().getUsed();
+    threads.resetPeakThreadCount();
+
+    List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+    for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+      responses.add(
+          client.sendAsync(request(path, authorization), HttpResponse.BodyHandlers.ofString()));
+    }
+    long heapPeak = heapBefore;
+    for (CompletableFuture<HttpResponse<String>> response : responses) {
+      heapPeak = Math.max(heapPeak, memory.getHeapMemoryUsage().getUsed());
+      assertThat(response.join().statusCode()).isEqualTo(200);
+    }
+    return new Result(threads.getPeakThreadCount(), (heapPeak - heapBefore) / 1024);
+  }
+
+  private HttpRequest request(String path, String authorization) {
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+        .header("Authorization", authorization)
+        .GET()
+        .build();
+  }
+
+  private static final class Result {
+    private final int peakThreads;
+    private final long heapKib;
+
+    private Result(int peakThreads, long heapKib) {
+      this.peakThreads = peakThreads;
+      this.heapKib = heapKib;
+    }
+  }
+
+  /** The pre-async read endpoint, kept only as a baseline for this benchmark. */
+  @TestConfiguration
+  @RestController
+  static class BlockingAccountController {
+    private final AccountService accountService;
+
+    BlockingAccountController(AccountService accountService) {
+      this.accountService = accountService;
+    }
+
+    @GetMapping("/account/blocking/{id}")
+    public AccountDTO getUserAccount(
+        Authentication authentication, @PathVariable("id") Long accountId) {
+      BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+      return accountService.getAccount(bankingUserDetails.getId(), accountId);
+    }
+  }
+}
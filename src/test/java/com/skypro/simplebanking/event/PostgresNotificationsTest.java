@@ -0,0 +1,149 @@
+package com.skypro.simplebanking.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.skypro.simplebanking.AbstractIntegrationTest;
+import com.skypro.simplebanking.TestPostgres;
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.service.AccountService;
+import com.skypro.simplebanking.service.UserService;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class PostgresNotificationsTest extends AbstractIntegrationTest {
+  @Autowired private PostgresNotifications notifications;
+  @Autowired private UserService userService;
+  @Autowired private AccountService accountService;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private Connection otherNode;
+
+  @BeforeEach
+  void listenAsOtherNode() throws Exception {
+    otherNode =
+        DriverManager.getConnection(
+            TestPostgres.container().getJdbcUrl(),
+            TestPostgres.container().getUsername(),
+            TestPostgres.container().getPassword());
+    try (Statement statement = otherNode.createStatement()) {
+      statement.execute("LISTEN " + AccountEventHub.CHANNEL);
+      statement.execute("LISTEN test_channel");
+    }
+  }
+
+  @AfterEach
+  void closeOtherNode() throws Exception {
+    otherNode.close();
+  }
+
+  @Test
+  void committedBalanceChangeIsPublishedToOtherNodes() throws Exception {
+    UserDTO user = userService.createUser("notify-" + UUID.randomUUID(), "password");
+    AccountDTO usd = accountOf(user, AccountCurrency.USD);
+
+    accountService.depositToAccount(user.getId(), usd.getId(), 41);
+
+    assertThat(receive(AccountEventHub.CHANNEL)).endsWith(":" + usd.getId() + ":42:USD");
+  }
+
+  @Test
+  void rolledBackNotificationIsNeverDelivered() throws Exception {
+    transactionTemplate.execute(
+        status -> {
+          notifications.notifyOthers("test_channel", "rolled-back");
+          status.setRollbackOnly();
+          return null;
+        });
+    transactionTemplate.execute(
+        status -> {
+          notifications.notifyOthers("test_channel", "committed");
+          return null;
+        });
+
+    assertThat(receive("test_channel")).endsWith(":committed");
+    assertThat(receiveAll("test_channel")).isEmpty();
+  }
+
+  @Test
+  void messagesFromOtherNodesReachSubscribers() throws Exception {
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    notifications.subscribe("test_inbound", received::add);
+    // The listener picks up new channels on its next poll.
+    Thread.sleep(2_000);
+
+    jdbcTemplate.queryForObject(
+        "select count(*) from (select pg_notify('test_inbound', 'other-node:hello')) n",
+        Long.class);
+
+    assertThat(received.poll(10, TimeUnit.SECONDS)).isEqualTo("hello");
+  }
+
+  @Test
+  void reconnectRunsTheConnectListeners() throws Exception {
+    Semaphore connected = new Semaphore(0);
+    notifications.onConnected(connected::release);
+
+    jdbcTemplate.queryForList(
+        "select pg_terminate_backend(pid) from pg_stat_activity where application_name = ?",
+        PostgresNotifications.APPLICATION_NAME);
+
+    assertThat(connected.tryAcquire(20, TimeUnit.SECONDS)).isTrue();
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (!notifications.isListening() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(100);
+    }
+    assertThat(notifications.isListening()).isTrue();
+  }
+
+  private static AccountDTO accountOf(UserDTO user, AccountCurrency currency) {
+    return user.getAccounts().stream()
+        .filter(account -> account.getCurrency() == currency)
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private String receive(String channel) throws Exception {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (System.currentTimeMillis() < deadline) {
+      List<String> messages = receiveAll(channel);
+      if (!messages.isEmpty()) {
+        return messages.get(0);
+      }
+    }
+    throw new AssertionError("No notification on " + channel);
+  }
+
+  private List<String> receiveAll(String channel) throws Exception {
+    List<String> messages = new ArrayList<>();
+    PGNotification[] notifications = otherNode.unwrap(PGConnection.class).getNotifications(500);
+    if (notifications != null) {
+      for (PGNotification notification : notifications) {
+        if (notification.getName().equals(channel)) {
+          messages.add(notification.getParameter());
+        }
+      }
+    }
+    return messages;
+  }
+}
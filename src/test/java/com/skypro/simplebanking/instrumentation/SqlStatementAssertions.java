@@ -0,0 +1,21 @@
+package com.skypro.simplebanking.instrumentation;
+
+public final class SqlStatementAssertions {
+  private SqlStatementAssertions() {}
+
+  public static void assertAtMost(long maxStatements, Runnable action) {
+    long statements = SqlStatementCounter.measure(action).getStatements();
+    if (statements > maxStatements) {
+      throw new AssertionError(
+          "Expected at most " + maxStatements + " SQL statements but got " + statements);
+    }
+  }
+
+  /** Fails when {@code action} reads and writes more than {@code maxRows} rows in total. */
+  public static void assertRowsAtMost(long maxRows, Runnable action) {
+    long rows = SqlStatementCounter.measure(action).getRows();
+    if (rows > maxRows) {
+      throw new AssertionError("Expected at most " + maxRows + " SQL rows but got " + rows);
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.skypro.simplebanking.instrumentation;
+
+import static com.skypro.simplebanking.instrumentation.SqlStatementAssertions.assertAtMost;
+import static com.skypro.simplebanking.instrumentation.SqlStatementAssertions.assertRowsAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.skypro.simplebanking.AbstractIntegrationTest;
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.TransferRequest;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.User;
+import com.skypro.simplebanking.repository.UserRepository;
+import com.skypro.simplebanking.service.AccountService;
+import com.skypro.simplebanking.service.TransferService;
+import com.skypro.simplebanking.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.UUID;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class SqlStatementCountTest extends AbstractIntegrationTest {
+  @Autowired private UserService userService;
+  @Autowired private AccountService accountService;
+  @Autowired private TransferService transferService;
+  @Autowired private UserRepository userRepository;
+  @Autowired private EntityManager entityManager;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private MeterRegistry meterRegistry;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void listUsersDoesNotLoadAccountsPerUser() {
+    for (int i = 0; i < 3; i++) {
+      newUser();
+    }
+
+    assertAtMost(2, userService::listUsers);
+  }
+
+  @Test
+  void transferIssuesAFixedNumberOfStatements() {
+    UserDTO from = newUser();
+    UserDTO to = newUser();
+    TransferRequest request = new TransferRequest();
+    request.setFromAccountId(accountOf(from, AccountCurrency.USD).getId());
+    request.setToUserId(to.getId());
+    request.setToAccountId(accountOf(to, AccountCurrency.USD).getId());
+    request.setAmount(1);
+
+    // Two lookups, update and re-read per side, one cross-node notification per side.
+    assertAtMost(8, () -> transferService.transfer(from.getId(), request));
+  }
+
+  @Test
+  void createDefaultAccountsInsertsOneRowPerCurrency() {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          User user = new User();
+          user.setUsername("accounts-" + UUID.randomUUID());
+          user.setPassword("password");
+          userRepository.saveAndFlush(user);
+
+          assertAtMost(
+              AccountCurrency.values().length,
+              () -> {
+                accountService.createDefaultAccounts(user);
+                entityManager.flush();
+              });
+        });
+  }
+
+  @Test
+  void rowsReadAndWrittenAreCounted() {
+    UserDTO user = newUser();
+    int accounts = AccountCurrency.values().length;
+
+    SqlStatementCounter read =
+        SqlStatementCounter.measure(
+            () ->
+                jdbcTemplate.queryForList(
+                    "select id from accounts where user_id = ?", Long.class, user.getId()));
+    SqlStatementCounter written =
+        SqlStatementCounter.measure(
+            () ->
+                jdbcTemplate.update(
+                    "update accounts set amount = amount where user_id = ?", user.getId()));
+
+    assertThat(read.getRows()).isEqualTo(accounts);
+    assertThat(written.getRows()).isEqualTo(accounts);
+    assertRowsAtMost(
+        accounts,
+        () ->
+            jdbcTemplate.queryForList(
+                "select id from accounts where user_id = ?", Long.class, user.getId()));
+  }
+
+  @Test
+  void rowsAreExportedAsAMeter() {
+    userService.listUsers();
+
+    assertThat(meterRegistry.get("banking.sql.rows").tag("operation", "read").counter().count())
+        .isPositive();
+  }
+
+  @Test
+  void serviceMethodsAreRecordedPerMethod() {
+    userService.listUsers();
+
+    assertThat(
+            meterRegistry
+                .get("banking.sql.method.statements")
+                .tag("class", "UserService")
+                .tag("method", "listUsers")
+                .summary()
+                .count())
+        .isPositive();
+  }
+
+  private UserDTO newUser() {
+    return userService.createUser("sql-" + UUID.randomUUID(), "password");
+  }
+
+  private static AccountDTO accountOf(UserDTO user, AccountCurrency currency) {
+    return user.getAccounts().stream()
+        .filter(account -> account.getCurrency() == currency)
+        .findFirst()
+        .orElseThrow();
+  }
+}
@@ -0,0 +1,157 @@
+package com.skypro.simplebanking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.skypro.simplebanking.AbstractIntegrationTest;
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.HoldDTO;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.HoldStatus;
+import com.skypro.simplebanking.exception.HoldExpiredException;
+import com.skypro.simplebanking.exception.InsufficientFundsException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class HoldServiceIntegrationTest extends AbstractIntegrationTest {
+  @Autowired private HoldService holdService;
+  @Autowired private HoldExpirySweeper holdExpirySweeper;
+  @Autowired private UserService userService;
+  @Autowired private AccountService accountService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private long userId;
+  private long accountId;
+
+  @BeforeEach
+  void setUp() {
+    UserDTO user = userService.createUser("holds-" + UUID.randomUUID(), "password");
+    userId = user.getId();
+    accountId =
+        user.getAccounts().stream()
+            .filter(account -> account.getCurrency() == AccountCurrency.USD)
+            .findFirst()
+            .map(AccountDTO::getId)
+            .orElseThrow();
+    accountService.depositToAccount(userId, accountId, 99);
+  }
+
+  @Test
+  void holdReducesAvailableBalanceUntilCaptured() {
+    HoldDTO hold = holdService.createHold(userId, accountId, 60, null);
+
+    assertThatThrownBy(() -> accountService.withdrawFromAccount(userId, accountId, 50))
+        .isInstanceOf(InsufficientFundsException.class);
+
+    holdService.captureHold(userId, hold.getId());
+    assertThat(balance()).isEqualTo(40);
+    assertThat(heldAmount()).isZero();
+  }
+
+  @Test
+  void releaseRestoresAvailableBalance() {
+    HoldDTO hold = holdService.createHold(userId, accountId, 60, null);
+
+    assertThat(holdService.releaseHold(userId, hold.getId()).getStatus())
+        .isEqualTo(HoldStatus.RELEASED);
+    accountService.withdrawFromAccount(userId, accountId, 100);
+    assertThat(balance()).isZero();
+  }
+
+  @Test
+  void expiredHoldCannotBeCaptured() {
+    HoldDTO hold = holdService.createHold(userId, accountId, 60, null);
+    expire(hold);
+
+    assertThatThrownBy(() -> holdService.captureHold(userId, hold.getId()))
+        .isInstanceOf(HoldExpiredException.class);
+    assertThat(balance()).isEqualTo(100);
+  }
+
+  @Test
+  void sweeperReleasesExpiredHolds() {
+    HoldDTO expired = holdService.createHold(userId, accountId, 60, null);
+    HoldDTO active = holdService.createHold(userId, accountId, 10, null);
+    expire(expired);
+
+    holdExpirySweeper.releaseExpiredHolds();
+
+    assertThat(status(expired)).isEqualTo("EXPIRED");
+    assertThat(status(active)).isEqualTo("ACTIVE");
+    assertThat(heldAmount()).isEqualTo(10);
+  }
+
+  @Test
+  void concurrentCaptureAndReleaseFinishTheHoldOnce() throws Exception {
+    HoldDTO hold = holdService.createHold(userId, accountId, 60, null);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Callable<HoldDTO>> actions = new ArrayList<>();
+    actions.add(
+        () -> {
+          start.await();
+          return holdService.captureHold(userId, hold.getId());
+        });
+    actions.add(
+        () -> {
+          start.await();
+          return holdService.releaseHold(userId, hold.getId());
+        });
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    List<Future<HoldDTO>> results = new ArrayList<>();
+    for (Callable<HoldDTO> action : actions) {
+      results.add(executor.submit(action));
+    }
+    start.countDown();
+    int succeeded = 0;
+    for (Future<HoldDTO> result : results) {
+      try {
+        result.get();
+        succeeded++;
+      } catch (Exception ignored) {
+        // The losing call finds the hold already finished.
+      }
+    }
+    executor.shutdown();
+
+    assertThat(succeeded).isEqualTo(1);
+    assertThat(heldAmount()).isZero();
+    assertThat(balance()).isIn(40L, 100L);
+  }
+
+  private void expire(HoldDTO hold) {
+    jdbcTemplate.update(
+        "update holds set expires_at = ? where id = ?",
+        Timestamp.from(Instant.now().minusSeconds(60)),
+        hold.getId());
+  }
+
+  private String status(HoldDTO hold) {
+    return jdbcTemplate.queryForObject(
+        "select status from holds where id = ?", String.class, hold.getId());
+  }
+
+  private long balance() {
+    return jdbcTemplate.queryForObject(
+        "select amount from accounts where id = ?", Long.class, accountId);
+  }
+
+  private long heldAmount() {
+    return jdbcTemplate.queryForObject(
+        "select held_amount from accounts where id = ?", Long.class, accountId);
+  }
+}
@@ -0,0 +1,49 @@
+package com.skypro.simplebanking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowCounterTest {
+  private final SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofSeconds(60));
+
+  @Test
+  void sumsAmountsWithinTheWindow() {
+    counter.add(10, 1_000);
+    counter.add(20, 30_000);
+
+    assertThat(counter.amount(30_000)).isEqualTo(30);
+    assertThat(counter.count(30_000)).isEqualTo(2);
+  }
+
+  @Test
+  void forgetsAmountsOutsideTheWindow() {
+    counter.add(10, 1_000);
+    counter.add(20, 30_000);
+
+    assertThat(counter.amount(62_000)).isEqualTo(20);
+    assertThat(counter.isIdle(62_000)).isFalse();
+    assertThat(counter.isIdle(91_000)).isTrue();
+  }
+
+  @Test
+  void removeUndoesAnAdd() {
+    long epoch = counter.add(10, 1_000);
+    counter.add(5, 1_000);
+
+    counter.remove(epoch, 10);
+
+    assertThat(counter.amount(1_000)).isEqualTo(5);
+    assertThat(counter.count(1_000)).isEqualTo(1);
+  }
+
+  @Test
+  void lateWriteDoesNotWipeOutANewerBucket() {
+    // Both times map to the same slot, one full window apart.
+    counter.add(10, 61_000);
+    counter.add(20, 1_000);
+
+    assertThat(counter.amount(61_000)).isEqualTo(30);
+  }
+}
@@ -0,0 +1,230 @@
+package com.skypro.simplebanking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.skypro.simplebanking.AbstractIntegrationTest;
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.StandingOrderDTO;
+import com.skypro.simplebanking.dto.StandingOrderRequest;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.StandingOrder;
+import com.skypro.simplebanking.exception.InsufficientFundsException;
+import com.skypro.simplebanking.exception.InvalidScheduleException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@SpringBootTest
+class StandingOrderIntegrationTest extends AbstractIntegrationTest {
+  @Autowired private StandingOrderService standingOrderService;
+  @Autowired private StandingOrderScheduler standingOrderScheduler;
+  @Autowired private UserService userService;
+  @Autowired private AccountService accountService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private ThreadPoolTaskExecutor readExecutor;
+
+  private long payerId;
+  private long payerAccountId;
+  private long payeeId;
+  private long payeeAccountId;
+
+  @BeforeEach
+  void setUp() {
+    UserDTO payer = userService.createUser("payer-" + UUID.randomUUID(), "password");
+    UserDTO payee = userService.createUser("payee-" + UUID.randomUUID(), "password");
+    payerId = payer.getId();
+    payerAccountId = usdAccount(payer);
+    payeeId = payee.getId();
+    payeeAccountId = usdAccount(payee);
+  }
+
+  @Test
+  void firstRunInThePastIsRejected() {
+    assertThatThrownBy(
+            () ->
+                standingOrderService.createStandingOrder(
+                    payerId, request(1, null, Instant.now().minus(Duration.ofDays(1)))))
+        .isInstanceOf(InvalidScheduleException.class);
+  }
+
+  @Test
+  void schedulerCompletesDueOneOffOrder() throws Exception {
+    StandingOrderDTO order =
+        standingOrderService.createStandingOrder(payerId, request(1, null, null));
+
+    standingOrderScheduler.runDueOrders();
+
+    awaitStatus(order, "COMPLETED");
+    assertThat(balance(payeeAccountId)).isEqualTo(2);
+  }
+
+  @Test
+  void retryDoesNotShiftTheSchedule() {
+    StandingOrderDTO order =
+        standingOrderService.createStandingOrder(payerId, request(50, 7, null));
+    Instant scheduledFor = Instant.now().minus(Duration.ofHours(1)).truncatedTo(ChronoUnit.SECONDS);
+    setSchedule(order, scheduledFor, scheduledFor);
+
+    String lease = claim(order).getLeaseToken();
+    assertThatThrownBy(() -> standingOrderService.execute(order.getId(), lease))
+        .isInstanceOf(InsufficientFundsException.class);
+    standingOrderService.recordFailure(order.getId(), lease, "insufficient funds");
+    assertThat(scheduledFor(order)).isEqualTo(scheduledFor);
+
+    accountService.depositToAccount(payerId, payerAccountId, 100);
+    setSchedule(order, scheduledFor, Instant.now().minusSeconds(1));
+    standingOrderService.execute(order.getId(), claim(order).getLeaseToken());
+
+    assertThat(scheduledFor(order)).isEqualTo(scheduledFor.plus(Duration.ofDays(7)));
+    assertThat(balance(payeeAccountId)).isEqualTo(51);
+  }
+
+  @Test
+  void missedOccurrencesAreSkipped() {
+    StandingOrderDTO order =
+        standingOrderService.createStandingOrder(payerId, request(1, 1, null));
+    Instant scheduledFor = Instant.now().minus(Duration.ofDays(3)).truncatedTo(ChronoUnit.SECONDS);
+    setSchedule(order, scheduledFor, scheduledFor);
+
+    standingOrderService.execute(order.getId(), claim(order).getLeaseToken());
+
+    assertThat(scheduledFor(order)).isEqualTo(scheduledFor.plus(Duration.ofDays(4)));
+    assertThat(balance(payeeAccountId)).isEqualTo(2);
+  }
+
+  @Test
+  void orderIsPaidOnlyByTheCurrentLeaseHolder() {
+    StandingOrderDTO order =
+        standingOrderService.createStandingOrder(payerId, request(1, null, null));
+    String staleLease = claim(order).getLeaseToken();
+    assertThat(standingOrderService.claimDueOrders(1000))
+        .extracting(StandingOrder::getId)
+        .doesNotContain(order.getId());
+
+    // The first lease runs out and another node claims the order.
+    jdbcTemplate.update(
+        "update standing_orders set locked_until = ? where id = ?",
+        Timestamp.from(Instant.now().minusSeconds(1)),
+        order.getId());
+    String currentLease = claim(order).getLeaseToken();
+
+    standingOrderService.execute(order.getId(), staleLease);
+    assertThat(balance(payeeAccountId)).isEqualTo(1);
+
+    standingOrderService.execute(order.getId(), currentLease);
+    standingOrderService.execute(order.getId(), currentLease);
+    assertThat(balance(payeeAccountId)).isEqualTo(2);
+  }
+
+  @Test
+  void drainLeavesConnectionsForInteractiveRequests() throws Exception {
+    for (int i = 0; i < 8; i++) {
+      UserDTO payer = userService.createUser("drain-" + UUID.randomUUID(), "password");
+      accountService.depositToAccount(payer.getId(), usdAccount(payer), 1_000);
+      for (int j = 0; j < 25; j++) {
+        StandingOrderRequest request = request(1, null, null);
+        request.setFromAccountId(usdAccount(payer));
+        standingOrderService.createStandingOrder(payer.getId(), request);
+      }
+    }
+    UserDTO client = userService.createUser("client-" + UUID.randomUUID(), "password");
+    long clientAccountId = usdAccount(client);
+
+    CompletableFuture<Void> drain =
+        CompletableFuture.runAsync(standingOrderScheduler::runDueOrders);
+    List<Future<?>> reads = new ArrayList<>();
+    long slowest = 0;
+    for (int i = 0; i < 50; i++) {
+      reads.add(
+          readExecutor.submit(() -> accountService.getAccount(client.getId(), clientAccountId)));
+      long started = System.nanoTime();
+      accountService.depositToAccount(client.getId(), clientAccountId, 1);
+      slowest = Math.max(slowest, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+    for (Future<?> read : reads) {
+      read.get(5, TimeUnit.SECONDS);
+    }
+    drain.get(30, TimeUnit.SECONDS);
+
+    // A starved pool would make these wait for Hikari's 30s connection timeout.
+    assertThat(slowest).isLessThan(2_000);
+    assertThat(balance(clientAccountId)).isEqualTo(51);
+  }
+
+  private StandingOrder claim(StandingOrderDTO order) {
+    return standingOrderService.claimDueOrders(1000).stream()
+        .filter(claimed -> claimed.getId() == order.getId())
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("Order " + order.getId() + " was not claimed"));
+  }
+
+  private StandingOrderRequest request(long amount, Integer intervalDays, Instant firstRunAt) {
+    StandingOrderRequest request = new StandingOrderRequest();
+    request.setFromAccountId(payerAccountId);
+    request.setToUserId(payeeId);
+    request.setToAccountId(payeeAccountId);
+    request.setAmount(amount);
+    request.setIntervalDays(intervalDays);
+    request.setFirstRunAt(firstRunAt);
+    return request;
+  }
+
+  private void setSchedule(StandingOrderDTO order, Instant scheduledFor, Instant nextRunAt) {
+    jdbcTemplate.update(
+        "update standing_orders set scheduled_for = ?, next_run_at = ? where id = ?",
+        Timestamp.from(scheduledFor),
+        Timestamp.from(nextRunAt),
+        order.getId());
+  }
+
+  private Instant scheduledFor(StandingOrderDTO order) {
+    return jdbcTemplate
+        .queryForObject(
+            "select scheduled_for from standing_orders where id = ?",
+            Timestamp.class,
+            order.getId())
+        .toInstant();
+  }
+
+  private void awaitStatus(StandingOrderDTO order, String status) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (System.currentTimeMillis() < deadline) {
+      String current =
+          jdbcTemplate.queryForObject(
+              "select status from standing_orders where id = ?", String.class, order.getId());
+      if (status.equals(current)) {
+        return;
+      }
+      Thread.sleep(100);
+    }
+    throw new AssertionError("Order " + order.getId() + " did not reach " + status);
+  }
+
+  private long balance(long accountId) {
+    return jdbcTemplate.queryForObject(
+        "select amount from accounts where id = ?", Long.class, accountId);
+  }
+
+  private static long usdAccount(UserDTO user) {
+    return user.getAccounts().stream()
+        .filter(account -> account.getCurrency() == AccountCurrency.USD)
+        .findFirst()
+        .map(AccountDTO::getId)
+        .orElseThrow();
+  }
+}
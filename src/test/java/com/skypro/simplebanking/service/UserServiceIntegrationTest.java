@@ -0,0 +1,58 @@
+package com.skypro.simplebanking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.skypro.simplebanking.AbstractIntegrationTest;
+import com.skypro.simplebanking.event.PostgresNotifications;
+import com.skypro.simplebanking.exception.UserAlreadyExistsException;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class UserServiceIntegrationTest extends AbstractIntegrationTest {
+  @Autowired private UserService userService;
+  @Autowired private UsernameBloomFilter usernameBloomFilter;
+  @Autowired private PostgresNotifications notifications;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void duplicateIsRejectedEvenWhenTheFilterHasNotSeenTheName() throws Exception {
+    String username = "stale-" + UUID.randomUUID();
+    awaitListening();
+    usernameBloomFilter.rebuild();
+    // Simulates a user created on another node whose notification has not arrived yet.
+    jdbcTemplate.update(
+        "insert into users (id, username, password) values (?, ?, 'x')",
+        System.nanoTime() & 0xFFFFFFFFFFFFL,
+        username);
+    assertThat(usernameBloomFilter.isDefinitelyAbsent(username)).isTrue();
+
+    assertThatThrownBy(() -> userService.createUser(username, "password"))
+        .isInstanceOf(UserAlreadyExistsException.class);
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "select count(*) from users where username = ?", Long.class, username))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void createdUserIsVisibleToTheFilterImmediately() {
+    String username = "fresh-" + UUID.randomUUID();
+
+    userService.createUser(username, "password");
+
+    assertThat(usernameBloomFilter.isDefinitelyAbsent(username)).isFalse();
+    assertThat(userService.loadUserByUsername(username).getUsername()).isEqualTo(username);
+  }
+
+  private void awaitListening() throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (!notifications.isListening() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(100);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package com.skypro.simplebanking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.skypro.simplebanking.event.PostgresNotifications;
+import com.skypro.simplebanking.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class UsernameBloomFilterTest {
+  private final UserRepository userRepository = mock(UserRepository.class);
+  private final PostgresNotifications notifications = mock(PostgresNotifications.class);
+  private UsernameBloomFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    when(notifications.isListening()).thenReturn(true);
+    filter =
+        new UsernameBloomFilter(
+            userRepository,
+            notifications,
+            new SimpleMeterRegistry(),
+            0.01,
+            1_000);
+  }
+
+  @Test
+  void nothingIsAbsentBeforeTheFirstRebuild() {
+    assertThat(filter.isDefinitelyAbsent("anyone")).isFalse();
+  }
+
+  @Test
+  void rebuiltFilterContainsExistingUsernames() {
+    when(userRepository.findAllUsernames()).thenReturn(List.of("alice", "bob"));
+
+    filter.rebuild();
+
+    assertThat(filter.isDefinitelyAbsent("alice")).isFalse();
+    assertThat(filter.isDefinitelyAbsent("bob")).isFalse();
+  }
+
+  @Test
+  void nameAddedWhileTheRebuildQueryRunsIsKept() {
+    when(userRepository.findAllUsernames())
+        .thenAnswer(
+            invocation -> {
+              filter.add("racer");
+              return List.of("alice");
+            });
+
+    filter.rebuild();
+
+    assertThat(filter.isDefinitelyAbsent("racer")).isFalse();
+  }
+
+  @Test
+  void nameAddedBeforeTheRebuildButNotYetCommittedIsKept() {
+    when(userRepository.findAllUsernames()).thenReturn(List.of("alice"));
+    filter.rebuild();
+    filter.add("uncommitted");
+
+    filter.rebuild();
+
+    assertThat(filter.isDefinitelyAbsent("uncommitted")).isFalse();
+  }
+
+  @Test
+  void negativesAreNotTrustedWhileTheListenerIsDown() {
+    when(userRepository.findAllUsernames()).thenReturn(List.of("alice"));
+    filter.rebuild();
+    assertThat(filter.isDefinitelyAbsent("carol")).isTrue();
+
+    when(notifications.isListening()).thenReturn(false);
+
+    assertThat(filter.isDefinitelyAbsent("carol")).isFalse();
+  }
+
+  @Test
+  void reconnectRebuildsFromTheDatabase() {
+    ArgumentCaptor<Runnable> onConnected = ArgumentCaptor.forClass(Runnable.class);
+    verify(notifications).onConnected(onConnected.capture());
+    when(userRepository.findAllUsernames()).thenReturn(List.of("alice"));
+    filter.rebuild();
+    when(userRepository.findAllUsernames()).thenReturn(List.of("alice", "missed"));
+
+    onConnected.getValue().run();
+
+    assertThat(filter.isDefinitelyAbsent("missed")).isFalse();
+  }
+}
@@ -0,0 +1,107 @@
+package com.skypro.simplebanking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.skypro.simplebanking.AbstractIntegrationTest;
+import com.skypro.simplebanking.configuration.VelocityProperties;
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.HoldDTO;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.exception.VelocityLimitExceededException;
+import com.skypro.simplebanking.repository.DebitRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@TestPropertySource(
+    properties = {
+      "app.velocity.account.USD[0].window=1h",
+      "app.velocity.account.USD[0].max-amount=100"
+    })
+class VelocityLimiterIntegrationTest extends AbstractIntegrationTest {
+  @Autowired private AccountService accountService;
+  @Autowired private HoldService holdService;
+  @Autowired private UserService userService;
+  @Autowired private VelocityProperties velocityProperties;
+  @Autowired private DebitRepository debitRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private long userId;
+  private long accountId;
+
+  @BeforeEach
+  void setUp() {
+    UserDTO user = userService.createUser("velocity-" + UUID.randomUUID(), "password");
+    userId = user.getId();
+    accountId =
+        user.getAccounts().stream()
+            .filter(account -> account.getCurrency() == AccountCurrency.USD)
+            .findFirst()
+            .map(AccountDTO::getId)
+            .orElseThrow();
+    accountService.depositToAccount(userId, accountId, 999);
+  }
+
+  @Test
+  void withdrawalOverTheLimitIsRejected() {
+    accountService.withdrawFromAccount(userId, accountId, 60);
+
+    assertThatThrownBy(() -> accountService.withdrawFromAccount(userId, accountId, 50))
+        .isInstanceOf(VelocityLimitExceededException.class);
+    assertThat(balance()).isEqualTo(940);
+  }
+
+  @Test
+  void holdCountsTowardsTheLimitWhenAuthorized() {
+    holdService.createHold(userId, accountId, 80, null);
+
+    assertThatThrownBy(() -> accountService.withdrawFromAccount(userId, accountId, 30))
+        .isInstanceOf(VelocityLimitExceededException.class);
+    assertThatThrownBy(() -> holdService.createHold(userId, accountId, 30, null))
+        .isInstanceOf(VelocityLimitExceededException.class);
+  }
+
+  @Test
+  void authorizedHoldIsCapturedEvenAtTheLimit() {
+    HoldDTO hold = holdService.createHold(userId, accountId, 80, null);
+    accountService.withdrawFromAccount(userId, accountId, 20);
+
+    holdService.captureHold(userId, hold.getId());
+
+    assertThat(balance()).isEqualTo(900);
+  }
+
+  @Test
+  void releasedHoldNoLongerCounts() {
+    HoldDTO hold = holdService.createHold(userId, accountId, 80, null);
+
+    holdService.releaseHold(userId, hold.getId());
+
+    accountService.withdrawFromAccount(userId, accountId, 90);
+    assertThat(debitRepository.findAllByHoldId(hold.getId())).isEmpty();
+  }
+
+  @Test
+  void limitsSurviveARestart() {
+    accountService.withdrawFromAccount(userId, accountId, 90);
+    // A fresh limiter sees only what the debit log tells it.
+    VelocityLimiter restarted = new VelocityLimiter(velocityProperties, debitRepository, 1_000);
+
+    restarted.restore();
+
+    assertThatThrownBy(() -> restarted.recordDebit(userId, accountId, AccountCurrency.USD, 20))
+        .isInstanceOf(VelocityLimitExceededException.class);
+  }
+
+  private long balance() {
+    return jdbcTemplate.queryForObject(
+        "select amount from accounts where id = ?", Long.class, accountId);
+  }
+}
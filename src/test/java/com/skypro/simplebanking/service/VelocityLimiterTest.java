@@ -0,0 +1,140 @@
+package com.skypro.simplebanking.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.skypro.simplebanking.configuration.VelocityProperties;
+import com.skypro.simplebanking.configuration.VelocityProperties.Limit;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.Debit;
+import com.skypro.simplebanking.exception.VelocityLimitExceededException;
+import com.skypro.simplebanking.repository.DebitRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class VelocityLimiterTest {
+  private final DebitRepository debitRepository = mock(DebitRepository.class);
+
+  @Test
+  void limitsSharingAWindowCountEachDebitOnce() {
+    VelocityLimiter limiter =
+        limiter(
+            limit(Duration.ofMinutes(1), 100, Long.MAX_VALUE),
+            limit(Duration.ofMinutes(1), Long.MAX_VALUE, 2));
+
+    limiter.recordDebit(1, 10, AccountCurrency.USD, 40);
+    assertThatCode(() -> limiter.recordDebit(1, 10, AccountCurrency.USD, 40))
+        .doesNotThrowAnyException();
+    assertThatThrownBy(() -> limiter.recordDebit(1, 10, AccountCurrency.USD, 1))
+        .isInstanceOf(VelocityLimitExceededException.class);
+  }
+
+  @Test
+  void rejectedDebitIsTakenBackOut() {
+    VelocityLimiter limiter = limiter(limit(Duration.ofMinutes(1), 100, Long.MAX_VALUE));
+
+    limiter.recordDebit(1, 10, AccountCurrency.USD, 60);
+    assertThatThrownBy(() -> limiter.recordDebit(1, 10, AccountCurrency.USD, 50))
+        .isInstanceOf(VelocityLimitExceededException.class);
+
+    assertThatCode(() -> limiter.recordDebit(1, 10, AccountCurrency.USD, 40))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void restoreReplaysLoggedDebits() {
+    when(debitRepository.findPageAfter(any(), anyLong(), any()))
+        .thenReturn(List.of(debit(1, 90, Instant.now().minusSeconds(10))));
+    VelocityLimiter limiter = limiter(limit(Duration.ofMinutes(1), 100, Long.MAX_VALUE));
+
+    limiter.restore();
+
+    assertThatThrownBy(() -> limiter.recordDebit(1, 10, AccountCurrency.USD, 20))
+        .isInstanceOf(VelocityLimitExceededException.class);
+  }
+
+  @Test
+  void restoreSkipsDebitsOlderThanEachWindow() {
+    when(debitRepository.findPageAfter(any(), anyLong(), any()))
+        .thenReturn(List.of(debit(1, 90, Instant.now().minus(Duration.ofMinutes(10)))));
+    VelocityLimiter limiter =
+        limiter(
+            limit(Duration.ofMinutes(1), 100, Long.MAX_VALUE),
+            limit(Duration.ofHours(1), 150, Long.MAX_VALUE));
+
+    limiter.restore();
+
+    // Only the hourly window still covers the old debit.
+    assertThatCode(() -> limiter.recordDebit(1, 10, AccountCurrency.USD, 60))
+        .doesNotThrowAnyException();
+    assertThatThrownBy(() -> limiter.recordDebit(1, 10, AccountCurrency.USD, 1))
+        .isInstanceOf(VelocityLimitExceededException.class);
+  }
+
+  @Test
+  void restoreReadsTheLogPageByPage() {
+    Instant now = Instant.now();
+    when(debitRepository.findPageAfter(any(), anyLong(), any()))
+        .thenReturn(
+            List.of(debit(1, 10, now.minusSeconds(30)), debit(2, 10, now.minusSeconds(20))))
+        .thenReturn(List.of(debit(3, 10, now.minusSeconds(10))));
+    VelocityProperties properties = new VelocityProperties();
+    properties.setAccount(
+        Map.of(AccountCurrency.USD, List.of(limit(Duration.ofMinutes(1), 30, Long.MAX_VALUE))));
+    VelocityLimiter limiter = new VelocityLimiter(properties, debitRepository, 2);
+
+    limiter.restore();
+
+    verify(debitRepository, times(2)).findPageAfter(any(), anyLong(), any());
+    assertThatThrownBy(() -> limiter.recordDebit(1, 10, AccountCurrency.USD, 1))
+        .isInstanceOf(VelocityLimitExceededException.class);
+  }
+
+  @Test
+  void cancelledHoldDebitIsTakenBackOut() {
+    VelocityLimiter limiter = limiter(limit(Duration.ofMinutes(1), 100, Long.MAX_VALUE));
+    Debit held = debit(1, 80, Instant.now());
+    when(debitRepository.findAllByHoldId(7)).thenReturn(List.of(held));
+    limiter.recordDebit(1, 10, AccountCurrency.USD, 80, 7L);
+
+    limiter.cancelHoldDebit(7);
+
+    verify(debitRepository).deleteAll(List.of(held));
+    assertThatCode(() -> limiter.recordDebit(1, 10, AccountCurrency.USD, 90))
+        .doesNotThrowAnyException();
+  }
+
+  private VelocityLimiter limiter(Limit... limits) {
+    VelocityProperties properties = new VelocityProperties();
+    properties.setAccount(Map.of(AccountCurrency.USD, List.of(limits)));
+    return new VelocityLimiter(properties, debitRepository, 1_000);
+  }
+
+  private static Debit debit(long id, long amount, Instant createdAt) {
+    Debit debit = new Debit();
+    debit.setId(id);
+    debit.setUserId(1L);
+    debit.setAccountId(10L);
+    debit.setCurrency(AccountCurrency.USD);
+    debit.setAmount(amount);
+    debit.setCreatedAt(createdAt);
+    return debit;
+  }
+
+  private static Limit limit(Duration window, long maxAmount, long maxCount) {
+    Limit limit = new Limit();
+    limit.setWindow(window);
+    limit.setMaxAmount(maxAmount);
+    limit.setMaxCount(maxCount);
+    return limit;
+  }
+}
@@ -0,0 +1,78 @@
+package com.skypro.simplebanking.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class GlobalIdAllocatorTest {
+  @Test
+  void idsAreUniqueAcrossThreads() throws Exception {
+    GlobalIdAllocator allocator = new GlobalIdAllocator(7);
+    Set<Long> ids = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int t = 0; t < 8; t++) {
+      executor.execute(
+          () -> {
+            for (int i = 0; i < 10_000; i++) {
+              ids.add(allocator.next());
+            }
+          });
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(ids).hasSize(80_000);
+  }
+
+  @Test
+  void idsAreIncreasingAndCarryNodeId() {
+    GlobalIdAllocator allocator = new GlobalIdAllocator(42);
+    long previous = allocator.next();
+    for (int i = 0; i < 1_000; i++) {
+      long id = allocator.next();
+      assertThat(id).isGreaterThan(previous);
+      assertThat(GlobalIdAllocator.nodeIdOf(id)).isEqualTo(42);
+      previous = id;
+    }
+  }
+
+  @Test
+  void idsFitInJavaScriptSafeIntegers() {
+    assertThat(new GlobalIdAllocator(GlobalIdAllocator.MAX_NODE_ID).next())
+        .isLessThan(1L << 53);
+  }
+
+  @Test
+  void differentNodesNeverCollide() {
+    GlobalIdAllocator first = new GlobalIdAllocator(1);
+    GlobalIdAllocator second = new GlobalIdAllocator(2);
+    Set<Long> ids = ConcurrentHashMap.newKeySet();
+    for (int i = 0; i < 10_000; i++) {
+      ids.add(first.next());
+      ids.add(second.next());
+    }
+    assertThat(ids).hasSize(20_000);
+  }
+
+  @Test
+  void oneSecondHoldsAFullSalaryRunWithoutWaiting() {
+    GlobalIdAllocator allocator = new GlobalIdAllocator(3);
+    long start = System.nanoTime();
+    for (int i = 0; i < 50_000; i++) {
+      allocator.next();
+    }
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+  }
+
+  @Test
+  void rejectsNodeIdOutOfRange() {
+    assertThatThrownBy(() -> new GlobalIdAllocator(GlobalIdAllocator.MAX_NODE_ID + 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
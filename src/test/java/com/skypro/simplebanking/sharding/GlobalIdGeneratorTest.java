@@ -0,0 +1,49 @@
+package com.skypro.simplebanking.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.service.ServiceRegistry;
+import org.junit.jupiter.api.Test;
+
+class GlobalIdGeneratorTest {
+  @Test
+  void startupFailsWithoutANodeId() {
+    assertThatThrownBy(() -> configure(new HashMap<>()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining(GlobalIdGenerator.NODE_ID_SETTING);
+  }
+
+  @Test
+  void startupFailsOnAnUnresolvedPlaceholder() {
+    Map<String, Object> settings = new HashMap<>();
+    settings.put(GlobalIdGenerator.NODE_ID_SETTING, "${app.ids.node-id}");
+
+    assertThatThrownBy(() -> configure(settings)).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void idsCarryTheConfiguredNodeId() {
+    Map<String, Object> settings = new HashMap<>();
+    settings.put(GlobalIdGenerator.NODE_ID_SETTING, "5");
+
+    assertThat(GlobalIdAllocator.nodeIdOf((Long) configure(settings).generate(null, null)))
+        .isEqualTo(5);
+  }
+
+  private static GlobalIdGenerator configure(Map<String, Object> settings) {
+    ConfigurationService configurationService = mock(ConfigurationService.class);
+    when(configurationService.getSettings()).thenReturn(settings);
+    ServiceRegistry serviceRegistry = mock(ServiceRegistry.class);
+    when(serviceRegistry.getService(ConfigurationService.class)).thenReturn(configurationService);
+    GlobalIdGenerator generator = new GlobalIdGenerator();
+    generator.configure(null, new Properties(), serviceRegistry);
+    return generator;
+  }
+}
@@ -0,0 +1,109 @@
+package com.skypro.simplebanking.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.skypro.simplebanking.TestPostgres;
+import com.skypro.simplebanking.configuration.ShardingConfiguration;
+import com.skypro.simplebanking.configuration.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+class ShardRoutingDataSourceTest {
+  private static List<PostgreSQLContainer<?>> containers;
+  private static ShardRoutingDataSource dataSource;
+
+  @BeforeAll
+  static void startShards() {
+    containers = Stream.generate(TestPostgres::start).limit(2).collect(Collectors.toList());
+    ShardingProperties properties = new ShardingProperties();
+    properties.setEnabled(true);
+    List<ShardingProperties.Shard> shards = new ArrayList<>();
+    for (PostgreSQLContainer<?> container : containers) {
+      ShardingProperties.Shard shard = new ShardingProperties.Shard();
+      shard.setUrl(container.getJdbcUrl());
+      shard.setUsername(container.getUsername());
+      shard.setPassword(container.getPassword());
+      shards.add(shard);
+    }
+    properties.setShards(shards);
+    dataSource = ShardingConfiguration.createRoutingDataSource(properties);
+  }
+
+  @AfterAll
+  static void stopShards() {
+    dataSource.getShards().forEach(shard -> ((HikariDataSource) shard).close());
+    containers.forEach(PostgreSQLContainer::stop);
+  }
+
+  @Test
+  void usersAreWrittenToTheirOwnShard() {
+    GlobalIdAllocator allocator = new GlobalIdAllocator(1);
+    JdbcTemplate routed = new JdbcTemplate(dataSource);
+    List<Long> userIds = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      long userId = allocator.next();
+      userIds.add(userId);
+      ShardContext.onShard(
+          dataSource.shardOf(userId),
+          () ->
+              routed.update(
+                  "insert into users (id, username, password) values (?, ?, ?)",
+                  userId,
+                  "user-" + userId,
+                  "****"));
+    }
+
+    for (int shard = 0; shard < dataSource.getShardCount(); shard++) {
+      JdbcTemplate direct = new JdbcTemplate(dataSource.getShards().get(shard));
+      int expectedShard = shard;
+      List<Long> expected =
+          userIds.stream()
+              .filter(id -> dataSource.shardOf(id) == expectedShard)
+              .collect(Collectors.toList());
+      // Other tests write to the same shards, so look only at the users this test created.
+      List<Long> stored =
+          direct.queryForList("select id from users", Long.class).stream()
+              .filter(userIds::contains)
+              .collect(Collectors.toList());
+      assertThat(stored).containsExactlyInAnyOrderElementsOf(expected);
+      assertThat(expected).isNotEmpty();
+    }
+  }
+
+  @Test
+  void readsAreRoutedToTheShardOfTheUser() {
+    long userId = new GlobalIdAllocator(2).next();
+    int shard = dataSource.shardOf(userId);
+    new JdbcTemplate(dataSource.getShards().get(shard))
+        .update(
+            "insert into users (id, username, password) values (?, ?, ?)",
+            userId,
+            "routed-" + userId,
+            "****");
+
+    JdbcTemplate routed = new JdbcTemplate(dataSource);
+    Integer found =
+        ShardContext.onShard(
+            shard,
+            () ->
+                routed.queryForObject(
+                    "select count(*) from users where id = ?", Integer.class, userId));
+    Integer missing =
+        ShardContext.onShard(
+            1 - shard,
+            () ->
+                routed.queryForObject(
+                    "select count(*) from users where id = ?", Integer.class, userId));
+
+    assertThat(found).isEqualTo(1);
+    assertThat(missing).isZero();
+  }
+}